@@ -0,0 +1,65 @@
+package com.reliaquest.api.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Latency distribution of a lookup against a simulated upstream that answers in about 1ms but takes
+ * {@code slowMillis} on {@code slowPercent}% of calls, with and without {@link HedgedRequests}.
+ * Compare the p0.99 rows of the sample-time output; the hedged run also pays for at most 5% extra calls.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class HedgedRequestsBenchmark {
+
+    @Param({"false", "true"})
+    private boolean hedging;
+
+    @Param({"2"})
+    private int slowPercent;
+
+    @Param({"50"})
+    private int slowMillis;
+
+    private HedgedRequests hedgedRequests;
+
+    @Setup
+    public void setUp() {
+        hedgedRequests = new HedgedRequests(new SimpleMeterRegistry(), hedging, 0.95, Duration.ofMillis(2), 0.05, 64);
+    }
+
+    @TearDown
+    public void tearDown() {
+        hedgedRequests.destroy();
+    }
+
+    @Benchmark
+    public String lookup() {
+        return hedgedRequests.call(this::upstreamCall);
+    }
+
+    private String upstreamCall() {
+        boolean slow = ThreadLocalRandom.current().nextInt(100) < slowPercent;
+        try {
+            Thread.sleep(slow ? slowMillis : 1);
+        } catch (InterruptedException e) {
+            // the losing attempt of a hedged pair is cancelled
+            Thread.currentThread().interrupt();
+        }
+        return "employee";
+    }
+}
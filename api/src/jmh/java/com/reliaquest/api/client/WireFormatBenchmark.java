@@ -0,0 +1,74 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.EmployeeDTO;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Encode and decode cost of the roster response in JSON versus Smile, using the employee_-prefixed names the
+ * mock server sends. The payload size of each format is printed during setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WireFormatBenchmark {
+
+    private static final String[] TITLES = {"Engineer", "Manager", "Designer", "Analyst", "Director", "Consultant"};
+    private static final TypeReference<ApiResponse<List<EmployeeDTO>>> ROSTER = new TypeReference<>() {};
+
+    @Param({"1000", "100000"})
+    private int rows;
+
+    @Param({"JSON", "SMILE"})
+    private String format;
+
+    private ObjectMapper mapper;
+    private ApiResponse<List<EmployeeDTO>> response;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        mapper = format.equals("SMILE") ? new ObjectMapper(new SmileFactory()) : new ObjectMapper();
+        SplittableRandom random = new SplittableRandom(42);
+        List<EmployeeDTO> employees = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            employees.add(EmployeeDTO.builder()
+                    .id(UUID.randomUUID())
+                    .name("Employee " + Integer.toString(i, 36))
+                    .salary(random.nextInt(30000, 500000))
+                    .age(random.nextInt(16, 70))
+                    .title(TITLES[random.nextInt(TITLES.length)])
+                    .email("employee" + i + "@company.com")
+                    .build());
+        }
+        response = new ApiResponse<>(employees, "Successfully processed request.");
+        encoded = mapper.writeValueAsBytes(response);
+        System.out.printf("%n%s payload for %d rows: %d bytes%n", format, rows, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return mapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public ApiResponse<List<EmployeeDTO>> decode() throws IOException {
+        return mapper.readValue(encoded, ROSTER);
+    }
+}
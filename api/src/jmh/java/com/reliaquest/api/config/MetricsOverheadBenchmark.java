@@ -0,0 +1,69 @@
+package com.reliaquest.api.config;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Per-call cost of the timing done by {@link EmployeeMetricsAspect}: an untimed call, a sample stopped on a
+ * cached timer with the configured percentiles and histogram, and the same with the timer looked up by name and
+ * tags on every call, which is what caching the timers avoids.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MetricsOverheadBenchmark {
+
+    private SimpleMeterRegistry meterRegistry;
+    private Timer cachedTimer;
+
+    @Setup
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cachedTimer = timer();
+    }
+
+    @Benchmark
+    public void untimed(Blackhole blackhole) {
+        blackhole.consume(work());
+    }
+
+    @Benchmark
+    public void cachedTimer(Blackhole blackhole) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        blackhole.consume(work());
+        sample.stop(cachedTimer);
+    }
+
+    @Benchmark
+    public void timerLookupPerCall(Blackhole blackhole) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        blackhole.consume(work());
+        sample.stop(timer());
+    }
+
+    private Timer timer() {
+        return Timer.builder(EmployeeMetricsAspect.ENDPOINT_TIMER)
+                .tag("method", "getAllEmployees")
+                .tag("outcome", "success")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(meterRegistry);
+    }
+
+    private static long work() {
+        Blackhole.consumeCPU(64);
+        return System.nanoTime();
+    }
+}
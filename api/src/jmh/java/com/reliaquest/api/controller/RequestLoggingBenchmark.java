@@ -0,0 +1,193 @@
+package com.reliaquest.api.controller;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.ContextInitializer;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.joran.spi.JoranException;
+import com.reliaquest.api.model.EmployeeCreateRequestDTO;
+import com.reliaquest.api.model.EmployeeDTO;
+import com.reliaquest.api.model.EmployeeQuery;
+import com.reliaquest.api.model.NameSearchMode;
+import com.reliaquest.api.service.EmployeeService;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggingInitializationContext;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.ClassPathResource;
+
+/**
+ * Endpoint throughput of {@link EmployeeController} under the application's own logback-spring.xml and logging
+ * levels, loaded as Spring Boot loads them, without a profile (synchronous console appender flushed per line,
+ * application.yml levels) and with the prod profile (async appender, sampled controller lines, prod levels). The
+ * console appender is pointed at a temporary file to keep JMH output readable; the service is a stub, so the
+ * difference is the logging done on the request thread.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class RequestLoggingBenchmark {
+
+    @Param({"default", "prod"})
+    private String profile;
+
+    private EmployeeController controller;
+    private String employeeId;
+    private Path logFile;
+    private OutputStream logOutput;
+    private LoggingSystem loggingSystem;
+
+    @Setup
+    public void setUp() throws IOException {
+        logFile = Files.createTempFile("request-logging", ".log");
+        logOutput = Files.newOutputStream(logFile);
+
+        StandardEnvironment environment = new StandardEnvironment();
+        addYaml(environment, "application.yml");
+        if (profile.equals("prod")) {
+            environment.setActiveProfiles("prod");
+            addYaml(environment, "application-prod.yml");
+        }
+        loggingSystem = LoggingSystem.get(getClass().getClassLoader());
+        loggingSystem.beforeInitialize();
+        loggingSystem.initialize(new LoggingInitializationContext(environment), "classpath:logback-spring.xml", null);
+        Binder.get(environment)
+                .bind("logging.level", Bindable.mapOf(String.class, LogLevel.class))
+                .orElse(Map.of())
+                .forEach(loggingSystem::setLogLevel);
+        consoleAppender().setOutputStream(logOutput);
+
+        EmployeeDTO employee = EmployeeDTO.builder()
+                .id(UUID.randomUUID())
+                .name("Jane Doe")
+                .salary(120000)
+                .age(34)
+                .title("Engineer")
+                .email("jane.doe@company.com")
+                .build();
+        employeeId = employee.getId().toString();
+        controller = new EmployeeController(new StubEmployeeService(employee));
+    }
+
+    /**
+     * Puts logging back to logback's own default configuration, as it was before the benchmark configured it
+     */
+    @TearDown
+    public void tearDown() throws IOException, JoranException {
+        loggingSystem.cleanUp();
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.reset();
+        new ContextInitializer(context).autoConfig();
+        logOutput.close();
+        Files.deleteIfExists(logFile);
+    }
+
+    @Benchmark
+    public Object getAllEmployees() {
+        return controller.getAllEmployees();
+    }
+
+    @Benchmark
+    public Object getEmployeeById() {
+        return controller.getEmployeeById(employeeId);
+    }
+
+    /**
+     * Later files take precedence, as application-prod.yml does over application.yml when the profile is active.
+     */
+    private static void addYaml(StandardEnvironment environment, String name) throws IOException {
+        for (PropertySource<?> source : new YamlPropertySourceLoader().load(name, new ClassPathResource(name))) {
+            environment.getPropertySources().addFirst(source);
+        }
+    }
+
+    /**
+     * The CONSOLE appender from Spring Boot's console-appender.xml, directly on the root logger or behind
+     * ASYNC_CONSOLE in the prod profile.
+     */
+    @SuppressWarnings("unchecked")
+    private static OutputStreamAppender<ILoggingEvent> consoleAppender() {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        Appender<ILoggingEvent> console = root.getAppender("CONSOLE");
+        if (console == null) {
+            console = ((AsyncAppender) root.getAppender("ASYNC_CONSOLE")).getAppender("CONSOLE");
+        }
+        return (OutputStreamAppender<ILoggingEvent>) console;
+    }
+
+    private record StubEmployeeService(EmployeeDTO employee) implements EmployeeService {
+
+        @Override
+        public List<EmployeeDTO> getAllEmployees() {
+            return List.of(employee);
+        }
+
+        @Override
+        public List<EmployeeDTO> getEmployeesByNameSearch(String searchString) {
+            return List.of(employee);
+        }
+
+        @Override
+        public List<EmployeeDTO> searchEmployeesByName(String query, NameSearchMode mode, int limit) {
+            return List.of(employee);
+        }
+
+        @Override
+        public List<EmployeeDTO> queryEmployees(EmployeeQuery query) {
+            return List.of(employee);
+        }
+
+        @Override
+        public EmployeeDTO getEmployeeById(UUID id) {
+            return employee;
+        }
+
+        @Override
+        public Integer getHighestSalaryOfEmployees() {
+            return employee.getSalary();
+        }
+
+        @Override
+        public List<String> getTopTenHighestEarningEmployeeNames() {
+            return List.of(employee.getName());
+        }
+
+        @Override
+        public EmployeeDTO createEmployee(EmployeeCreateRequestDTO employeeInput) {
+            return employee;
+        }
+
+        @Override
+        public String deleteEmployeeById(UUID id) {
+            return employee.getName();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Roster encode and decode throughput with Jackson's reflective bean (de)serializers versus the hand-written
+ * {@link EmployeeJsonComponents}. Run with {@code ./gradlew :api:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class EmployeeJsonBenchmark {
+
+    private static final String[] TITLES = {"Engineer", "Manager", "Designer", "Analyst", "Director", "Consultant"};
+    private static final TypeReference<ApiResponse<List<EmployeeDTO>>> ROSTER = new TypeReference<>() {};
+
+    @Param({"10000"})
+    private int rows;
+
+    @Param({"REFLECTIVE", "HAND_WRITTEN"})
+    private String serializers;
+
+    private ObjectMapper mapper;
+    private ApiResponse<List<EmployeeDTO>> response;
+    private byte[] json;
+
+    @Setup
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void setUp() throws IOException {
+        mapper = new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        if (serializers.equals("HAND_WRITTEN")) {
+            JsonDeserializer envelopeDeserializer = new EmployeeJsonComponents.ApiResponseDeserializer();
+            mapper.registerModule(new SimpleModule()
+                    .addSerializer(new EmployeeJsonComponents.EmployeeDTOSerializer())
+                    .addDeserializer(EmployeeDTO.class, new EmployeeJsonComponents.EmployeeDTODeserializer())
+                    .addSerializer(new EmployeeJsonComponents.ApiResponseSerializer())
+                    .addDeserializer(ApiResponse.class, envelopeDeserializer));
+        }
+        SplittableRandom random = new SplittableRandom(42);
+        List<EmployeeDTO> employees = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            employees.add(EmployeeDTO.builder()
+                    .id(UUID.randomUUID())
+                    .name("Employee " + Integer.toString(i, 36))
+                    .salary(random.nextInt(30000, 500000))
+                    .age(random.nextInt(16, 70))
+                    .title(TITLES[random.nextInt(TITLES.length)])
+                    .email("employee" + i + "@company.com")
+                    .build());
+        }
+        response = new ApiResponse<>(employees, "Successfully processed request.");
+        json = mapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] encodeRoster() throws IOException {
+        return mapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public ApiResponse<List<EmployeeDTO>> decodeRoster() throws IOException {
+        return mapper.readValue(json, ROSTER);
+    }
+}
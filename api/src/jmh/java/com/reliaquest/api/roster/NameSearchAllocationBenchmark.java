@@ -0,0 +1,55 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.EmployeeDTO;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Allocation per name search query: per-row {@code toLowerCase()} against the pre-folded roster column.
+ * The jmh task runs with the gc profiler; compare {@code gc.alloc.rate.norm} between the two.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NameSearchAllocationBenchmark {
+
+    @Param({"100000"})
+    private int rows;
+
+    private List<EmployeeDTO> employees;
+    private EmployeeRoster roster;
+
+    @Setup
+    public void setUp() {
+        employees = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            employees.add(EmployeeDTO.builder()
+                    .name("Employee " + Integer.toString(i, 36).toUpperCase())
+                    .build());
+        }
+        roster = EmployeeRoster.of(employees);
+    }
+
+    @Benchmark
+    public List<EmployeeDTO> perRowLowerCase() {
+        return employees.stream()
+                .filter(employee -> employee.getName() != null
+                        && employee.getName().toLowerCase().contains("zz".toLowerCase()))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public int[] preFoldedRoster() {
+        return roster.rowsWithNameContaining("ZZ");
+    }
+}
@@ -0,0 +1,91 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.EmployeeDTO;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Query latency of the ranked name search at 1M names, against the 5ms p99 target.
+ * Uses sample mode so the report includes percentiles.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NameSearchIndexBenchmark {
+
+    private static final String CONSONANTS = "bcdfghjklmnprstvwz";
+    private static final String VOWELS = "aeiou";
+
+    @Param({"1000000"})
+    private int rows;
+
+    private NameSearchIndex index;
+    private String misspelledFirstName;
+    private String misspelledFullName;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        String[] firstNames = words(random, 3000);
+        String[] lastNames = words(random, 20000);
+        List<EmployeeDTO> employees = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            employees.add(EmployeeDTO.builder()
+                    .name(firstNames[random.nextInt(firstNames.length)] + " "
+                            + lastNames[random.nextInt(lastNames.length)])
+                    .build());
+        }
+        index = EmployeeRoster.of(employees).nameSearchIndex();
+        // Swap two letters of a first name and append one to a last name
+        String firstName = firstNames[5];
+        misspelledFirstName =
+                firstName.substring(0, 1) + firstName.charAt(2) + firstName.charAt(1) + firstName.substring(3);
+        misspelledFullName = misspelledFirstName + " " + lastNames[7] + "x";
+    }
+
+    @Benchmark
+    public int[] prefixShort() {
+        return index.prefixMatches("ka", 10);
+    }
+
+    @Benchmark
+    public int[] prefixFullName() {
+        return index.prefixMatches(misspelledFullName.substring(0, 6), 10);
+    }
+
+    @Benchmark
+    public int[] fuzzyOneWord() {
+        return index.fuzzyMatches(misspelledFirstName, 10);
+    }
+
+    @Benchmark
+    public int[] fuzzyTwoWords() {
+        return index.fuzzyMatches(misspelledFullName, 10);
+    }
+
+    private static String[] words(SplittableRandom random, int count) {
+        String[] words = new String[count];
+        for (int i = 0; i < count; i++) {
+            int length = random.nextInt(4, 11);
+            StringBuilder word = new StringBuilder(length);
+            for (int position = 0; position < length; position++) {
+                word.append(
+                        position % 2 == 0
+                                ? CONSONANTS.charAt(random.nextInt(CONSONANTS.length()))
+                                : VOWELS.charAt(random.nextInt(VOWELS.length())));
+            }
+            words[i] = word.toString();
+        }
+        return words;
+    }
+}
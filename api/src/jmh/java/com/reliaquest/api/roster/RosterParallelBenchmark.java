@@ -0,0 +1,69 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.EmployeeDTO;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Sequential versus fork/join roster scans across roster sizes, used to pick
+ * {@code employee.roster.parallel.threshold}: the crossover is the smallest size where {@code parallel} wins.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RosterParallelBenchmark {
+
+    @Param({"10000", "50000", "100000", "250000", "1000000"})
+    private int rows;
+
+    @Param({"sequential", "parallel"})
+    private String mode;
+
+    private EmployeeRoster roster;
+    private RosterQueryExecutor executor;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        List<EmployeeDTO> employees = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            employees.add(EmployeeDTO.builder()
+                    .name("Employee " + Integer.toString(i, 36))
+                    .salary(random.nextInt(30000, 500000))
+                    .build());
+        }
+        roster = EmployeeRoster.of(employees);
+        executor = new RosterQueryExecutor("parallel".equals(mode) ? 0 : Integer.MAX_VALUE, 25000, 0);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.destroy();
+    }
+
+    @Benchmark
+    public int maxSalary() {
+        return executor.maxSalary(roster);
+    }
+
+    @Benchmark
+    public int[] topTen() {
+        return executor.topSalaryRows(roster, 10);
+    }
+
+    @Benchmark
+    public int[] nameSearch() {
+        return executor.rowsWithNameContaining(roster, "zz");
+    }
+}
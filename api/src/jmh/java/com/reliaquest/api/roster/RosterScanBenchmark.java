@@ -0,0 +1,100 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.EmployeeDTO;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares scans over the List&lt;EmployeeDTO&gt; roster with the columnar {@link EmployeeRoster}.
+ * {@link #buildRoster()} measures the one-off cost paid per refresh. Run with {@code ./gradlew :api:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RosterScanBenchmark {
+
+    private static final String[] TITLES = {"Engineer", "Manager", "Designer", "Analyst", "Director", "Consultant"};
+
+    @Param({"1000000"})
+    private int rows;
+
+    private List<EmployeeDTO> employees;
+    private EmployeeRoster roster;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        employees = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            employees.add(EmployeeDTO.builder()
+                    .id(UUID.randomUUID())
+                    .name("Employee " + Integer.toString(i, 36))
+                    .salary(random.nextInt(30000, 500000))
+                    .age(random.nextInt(16, 70))
+                    .title(TITLES[random.nextInt(TITLES.length)])
+                    .email("employee" + i + "@company.com")
+                    .build());
+        }
+        roster = EmployeeRoster.of(employees);
+    }
+
+    @Benchmark
+    public int listMaxSalary() {
+        return employees.stream()
+                .filter(employee -> employee.getSalary() != null)
+                .mapToInt(EmployeeDTO::getSalary)
+                .max()
+                .orElse(0);
+    }
+
+    @Benchmark
+    public int rosterMaxSalary() {
+        return roster.maxSalary();
+    }
+
+    @Benchmark
+    public List<String> listTopTen() {
+        return employees.stream()
+                .filter(employee -> employee.getSalary() != null && employee.getName() != null)
+                .sorted(Comparator.comparing(EmployeeDTO::getSalary).reversed())
+                .limit(10)
+                .map(EmployeeDTO::getName)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public int[] rosterTopTen() {
+        return roster.topSalaryRows(10);
+    }
+
+    @Benchmark
+    public List<EmployeeDTO> listNameSearch() {
+        return employees.stream()
+                .filter(employee -> employee.getName() != null
+                        && employee.getName().toLowerCase().contains("zz"))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<EmployeeDTO> rosterNameSearch() {
+        return roster.employeesAt(roster.rowsWithNameContaining("zz"));
+    }
+
+    @Benchmark
+    public EmployeeRoster buildRoster() {
+        return EmployeeRoster.of(employees);
+    }
+}
@@ -15,8 +15,9 @@ import org.springframework.web.service.annotation.PostExchange;
 
 /**
  * HTTP Interface for communicating with the Mock Employee API
+ * The Accept header comes from employee.api.media-type, see RestClientConfig
  */
-@HttpExchange(url = "/api/v1/employee", accept = "application/json")
+@HttpExchange(url = "/api/v1/employee")
 public interface EmployeeApiClient {
 
     @GetExchange()
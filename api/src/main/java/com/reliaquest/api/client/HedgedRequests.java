@@ -0,0 +1,185 @@
+package com.reliaquest.api.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Optional hedging for idempotent upstream calls: when the call has not answered within the configured percentile
+ * of recent latencies, one duplicate is sent and whichever succeeds first is returned.
+ * Hedges are paid for from a token budget that every call tops up by {@code budget-ratio}, so they add at most that
+ * fraction of extra upstream requests (plus a small burst) and cannot eat into the mock API's rate limit.
+ * Disabled by default, in which case the call runs on the caller's thread as before.
+ */
+@Component
+public class HedgedRequests implements DisposableBean {
+
+    static final String HEDGED_REQUESTS = "employee.hedge.requests";
+    static final String HEDGE_DELAY = "employee.hedge.delay";
+
+    private static final long TOKEN = 1_000_000;
+    private static final long MAX_TOKENS = 10 * TOKEN;
+
+    private final boolean enabled;
+    private final long minDelayNanos;
+    private final long tokensPerCall;
+    private final ThreadPoolExecutor executor;
+
+    private final LatencyWindow latencies;
+    private final AtomicLong tokens = new AtomicLong(MAX_TOKENS);
+
+    private final Counter primaryWon;
+    private final Counter hedgeWon;
+    private final Counter overBudget;
+
+    public HedgedRequests(
+            MeterRegistry meterRegistry,
+            @Value("${employee.api.hedging.enabled:false}") boolean enabled,
+            @Value("${employee.api.hedging.percentile:0.95}") double percentile,
+            @Value("${employee.api.hedging.min-delay:10ms}") Duration minDelay,
+            @Value("${employee.api.hedging.budget-ratio:0.05}") double budgetRatio,
+            @Value("${employee.api.hedging.max-threads:64}") int maxThreads) {
+        this.enabled = enabled;
+        this.latencies = new LatencyWindow(percentile);
+        this.minDelayNanos = minDelay.toNanos();
+        this.tokensPerCall = (long) (budgetRatio * TOKEN);
+        AtomicInteger threadCount = new AtomicInteger();
+        // attempts beyond maxThreads queue rather than fail; the bulkhead already caps concurrent upstream calls
+        this.executor = new ThreadPoolExecutor(
+                maxThreads, maxThreads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), task -> {
+                    Thread thread = new Thread(task, "employee-hedge-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+        this.primaryWon = result(meterRegistry, "primary_won");
+        this.hedgeWon = result(meterRegistry, "hedge_won");
+        this.overBudget = result(meterRegistry, "over_budget");
+        Gauge.builder(HEDGE_DELAY, this, HedgedRequests::delaySeconds)
+                .baseUnit("seconds")
+                .description("Delay after which an unanswered call is hedged")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs the call, hedged when enabled; failures are rethrown as thrown by the call
+     */
+    public <T> T call(Supplier<T> call) {
+        if (!enabled) {
+            return call.get();
+        }
+        tokens.getAndUpdate(available -> Math.min(MAX_TOKENS, available + tokensPerCall));
+        Supplier<T> withDeadline = RequestDeadline.propagate(call);
+
+        CompletableFuture<T> first = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(1);
+        Future<?> primary;
+        try {
+            primary = executor.submit(() -> attempt(withDeadline, first, pending, false));
+        } catch (RejectedExecutionException e) {
+            return call.get();
+        }
+
+        long delay = delayNanos();
+        try {
+            return first.get(delay, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            Future<?> hedge = hedge(withDeadline, first, pending);
+            try {
+                return first.get();
+            } catch (ExecutionException failure) {
+                throw rethrow(failure.getCause());
+            } catch (InterruptedException interrupted) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted waiting for upstream call", interrupted);
+            } finally {
+                primary.cancel(true);
+                if (hedge != null) {
+                    hedge.cancel(true);
+                }
+            }
+        } catch (ExecutionException failure) {
+            throw rethrow(failure.getCause());
+        } catch (InterruptedException interrupted) {
+            primary.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for upstream call", interrupted);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private <T> Future<?> hedge(Supplier<T> call, CompletableFuture<T> first, AtomicInteger pending) {
+        if (tokens.getAndUpdate(available -> available >= TOKEN ? available - TOKEN : available) < TOKEN) {
+            overBudget.increment();
+            return null;
+        }
+        pending.incrementAndGet();
+        try {
+            return executor.submit(() -> attempt(call, first, pending, true));
+        } catch (RejectedExecutionException e) {
+            pending.decrementAndGet();
+            tokens.addAndGet(TOKEN);
+            return null;
+        }
+    }
+
+    /**
+     * Completes {@code first} with the first success, or with the failure once every launched attempt has failed
+     */
+    private <T> void attempt(Supplier<T> call, CompletableFuture<T> first, AtomicInteger pending, boolean isHedge) {
+        long started = System.nanoTime();
+        try {
+            T result = call.get();
+            latencies.record(System.nanoTime() - started);
+            if (first.complete(result)) {
+                (isHedge ? hedgeWon : primaryWon).increment();
+            }
+        } catch (RuntimeException | Error failure) {
+            if (pending.decrementAndGet() == 0) {
+                first.completeExceptionally(failure);
+            }
+        }
+    }
+
+    /**
+     * The configured percentile of recent latencies, at least min-delay; Long.MAX_VALUE until the window fills
+     */
+    private long delayNanos() {
+        return Math.max(minDelayNanos, latencies.percentileNanos());
+    }
+
+    private double delaySeconds() {
+        long delay = delayNanos();
+        return delay == Long.MAX_VALUE ? Double.NaN : delay / 1e9;
+    }
+
+    private static RuntimeException rethrow(Throwable failure) {
+        if (failure instanceof Error error) {
+            throw error;
+        }
+        return failure instanceof RuntimeException runtime ? runtime : new IllegalStateException(failure);
+    }
+
+    private static Counter result(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(HEDGED_REQUESTS).tag("result", result).register(meterRegistry);
+    }
+}
@@ -0,0 +1,40 @@
+package com.reliaquest.api.client;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Rolling window of the last 1024 call latencies with a percentile estimate refreshed every 64 samples.
+ * The estimate is Long.MAX_VALUE until 256 samples have been recorded.
+ */
+final class LatencyWindow {
+
+    private static final int SIZE = 1024;
+    private static final int RECOMPUTE_EVERY = 64;
+    private static final int MIN_SAMPLES = SIZE / 4;
+
+    private final double percentile;
+    private final long[] latencies = new long[SIZE];
+    private final AtomicLong recorded = new AtomicLong();
+    private volatile long percentileNanos = Long.MAX_VALUE;
+
+    LatencyWindow(double percentile) {
+        this.percentile = percentile;
+    }
+
+    void record(long latencyNanos) {
+        long count = recorded.getAndIncrement();
+        // racy slot writes only blur the window slightly, which a percentile estimate tolerates
+        latencies[(int) (count % SIZE)] = latencyNanos;
+        if ((count + 1) % RECOMPUTE_EVERY == 0 && count + 1 >= MIN_SAMPLES) {
+            long[] window = Arrays.copyOf(latencies, (int) Math.min(count + 1, SIZE));
+            Arrays.sort(window);
+            int rank = (int) Math.ceil(percentile * window.length) - 1;
+            percentileNanos = window[Math.max(0, Math.min(window.length - 1, rank))];
+        }
+    }
+
+    long percentileNanos() {
+        return percentileNanos;
+    }
+}
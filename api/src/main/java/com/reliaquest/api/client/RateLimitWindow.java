@@ -0,0 +1,70 @@
+package com.reliaquest.api.client;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Learns how long the mock API keeps answering 429 once its request limit is reached.
+ * The limit is counted from the last accepted request, so a window is taken to open at the last call answered before
+ * a 429 and to close at the next call answered after it. Until one window has been observed, initial-window is
+ * assumed, and a 429 after the expected close doubles the estimate.
+ * Fed by the RestClient for every upstream exchange, see RestClientConfig.
+ */
+@Component
+public class RateLimitWindow {
+
+    private final LongSupplier nanoClock;
+
+    private long lastAcceptedNanos;
+    private long limitedSinceNanos;
+    private boolean limited;
+    private long windowNanos;
+
+    public RateLimitWindow(@Value("${employee.api.rate-limit.initial-window:30s}") Duration initialWindow) {
+        this(initialWindow, System::nanoTime);
+    }
+
+    RateLimitWindow(Duration initialWindow, LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.windowNanos = initialWindow.toNanos();
+        this.lastAcceptedNanos = nanoClock.getAsLong();
+    }
+
+    public synchronized void accepted() {
+        long now = nanoClock.getAsLong();
+        if (limited) {
+            windowNanos = now - limitedSinceNanos;
+            limited = false;
+        }
+        lastAcceptedNanos = now;
+    }
+
+    public synchronized void rateLimited() {
+        if (!limited) {
+            limited = true;
+            limitedSinceNanos = lastAcceptedNanos;
+        } else if (nanoClock.getAsLong() - limitedSinceNanos >= windowNanos) {
+            // still limited after the window should have closed, so the estimate was too short
+            windowNanos *= 2;
+        }
+    }
+
+    /**
+     * Time until the current rate-limit window is expected to close, or zero when calls are not being limited
+     */
+    public synchronized Duration untilOpen() {
+        if (!limited) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos(Math.max(0, limitedSinceNanos + windowNanos - nanoClock.getAsLong()));
+    }
+
+    /**
+     * The last observed window length, or initial-window before the first was observed
+     */
+    public synchronized Duration window() {
+        return Duration.ofNanos(windowNanos);
+    }
+}
@@ -0,0 +1,102 @@
+package com.reliaquest.api.client;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Time left for the current api request, bound to the serving thread by RequestDeadlineFilter.
+ * Upstream attempts read it to cap their timeout and to skip retries the caller would no longer wait for; work
+ * handed to other threads, such as hedged calls, carries it along with {@link #propagate}.
+ */
+public final class RequestDeadline {
+
+    /**
+     * Header carrying a request's remaining budget in milliseconds, accepted from callers and sent upstream
+     */
+    public static final String TIMEOUT_HEADER = "X-Request-Timeout-Ms";
+
+    private static final ThreadLocal<RequestDeadline> CURRENT = new ThreadLocal<>();
+
+    private final long deadlineNanos;
+    // attempts per upstream operation, shared by every view of the request's deadline
+    private final Map<String, Integer> attempts;
+    // attempt numbers already taken by the propagated action this view runs, null for the request's own deadline
+    private final Map<String, Integer> actionAttempts;
+
+    private RequestDeadline(long deadlineNanos, Map<String, Integer> attempts, Map<String, Integer> actionAttempts) {
+        this.deadlineNanos = deadlineNanos;
+        this.attempts = attempts;
+        this.actionAttempts = actionAttempts;
+    }
+
+    public static RequestDeadline after(Duration budget) {
+        return new RequestDeadline(System.nanoTime() + budget.toNanos(), new HashMap<>(), null);
+    }
+
+    /**
+     * The deadline of the request served by this thread, or null outside a request
+     */
+    public static RequestDeadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Binds this deadline to the calling thread until {@link #clear} is called
+     */
+    public void bind() {
+        CURRENT.set(this);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Runs the action with this deadline bound to the calling thread
+     */
+    public <T> T run(Supplier<T> action) {
+        RequestDeadline previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Wraps the action so it runs under the calling thread's deadline, if any, on whichever thread executes it.
+     * Every run of the wrapped action counts as the same attempt, so a hedged duplicate does not pass for a retry.
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> action) {
+        RequestDeadline deadline = current();
+        if (deadline == null) {
+            return action;
+        }
+        RequestDeadline sameAttempt = new RequestDeadline(deadline.deadlineNanos, deadline.attempts, new HashMap<>());
+        return () -> sameAttempt.run(action);
+    }
+
+    public long remainingNanos() {
+        return deadlineNanos - System.nanoTime();
+    }
+
+    /**
+     * Counts a call of the upstream operation and returns its attempt number, this one included. Each attempt of a
+     * retried service method calls its operations once, so this is the attempt number of the enclosing retry.
+     */
+    public int countAttempt(String operation) {
+        synchronized (attempts) {
+            if (actionAttempts == null) {
+                return attempts.merge(operation, 1, Integer::sum);
+            }
+            return actionAttempts.computeIfAbsent(operation, name -> attempts.merge(name, 1, Integer::sum));
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.reliaquest.api.client;
+
+import io.github.resilience4j.core.functions.CheckedSupplier;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Read timeout for each EmployeeApiClient operation, so a single-employee lookup does not wait as long as the
+ * full roster download. Operations without their own setting use employee.api.timeout.
+ * In adaptive mode an operation's timeout follows the rolling p99 of its successful calls times a headroom factor,
+ * between min-timeout and the configured timeout, once 256 calls have been seen.
+ * The timeout for the call in progress is bound to the calling thread and applied by the request factory in
+ * RestClientConfig.
+ */
+@Component
+public class UpstreamTimeouts {
+
+    private static final ThreadLocal<Long> READ_TIMEOUT_NANOS = new ThreadLocal<>();
+
+    private final Map<String, Long> configuredNanos;
+    private final long defaultNanos;
+    private final boolean adaptive;
+    private final double headroom;
+    private final long minNanos;
+    private final Map<String, LatencyWindow> latencies;
+
+    public UpstreamTimeouts(
+            @Value("${employee.api.timeout:5000}") int defaultTimeoutMillis,
+            @Value("${employee.api.timeouts.get-all-employees:${employee.api.timeout:5000}ms}") Duration getAll,
+            @Value("${employee.api.timeouts.get-employee-by-id:${employee.api.timeout:5000}ms}") Duration getById,
+            @Value("${employee.api.timeouts.create-employee:${employee.api.timeout:5000}ms}") Duration create,
+            @Value("${employee.api.timeouts.delete-employee-by-name:${employee.api.timeout:5000}ms}") Duration delete,
+            @Value("${employee.api.timeouts.adaptive.enabled:false}") boolean adaptive,
+            @Value("${employee.api.timeouts.adaptive.headroom:2.0}") double headroom,
+            @Value("${employee.api.timeouts.adaptive.min-timeout:200ms}") Duration minTimeout) {
+        this.configuredNanos = Map.of(
+                "getAllEmployees", getAll.toNanos(),
+                "getEmployeeById", getById.toNanos(),
+                "createEmployee", create.toNanos(),
+                "deleteEmployeeByName", delete.toNanos());
+        this.defaultNanos = TimeUnit.MILLISECONDS.toNanos(defaultTimeoutMillis);
+        this.adaptive = adaptive;
+        this.headroom = headroom;
+        this.minNanos = minTimeout.toNanos();
+        this.latencies = Map.of(
+                "getAllEmployees", new LatencyWindow(0.99),
+                "getEmployeeById", new LatencyWindow(0.99),
+                "createEmployee", new LatencyWindow(0.99),
+                "deleteEmployeeByName", new LatencyWindow(0.99));
+    }
+
+    /**
+     * Read timeout for the next call of the given operation
+     */
+    public long timeoutNanos(String operation) {
+        long configured = configuredNanos.getOrDefault(operation, defaultNanos);
+        LatencyWindow window = latencies.get(operation);
+        if (!adaptive || window == null || window.percentileNanos() == Long.MAX_VALUE) {
+            return configured;
+        }
+        long fromP99 = (long) Math.min(Long.MAX_VALUE, window.percentileNanos() * headroom);
+        return Math.max(minNanos, Math.min(configured, fromP99));
+    }
+
+    /**
+     * Records the duration of a successful call of the given operation
+     */
+    public void record(String operation, long latencyNanos) {
+        LatencyWindow window = latencies.get(operation);
+        if (window != null) {
+            window.record(latencyNanos);
+        }
+    }
+
+    /**
+     * Runs the call with the given read timeout bound to the calling thread
+     */
+    public static <T> T withReadTimeout(long timeoutNanos, CheckedSupplier<T> call) throws Throwable {
+        Long previous = READ_TIMEOUT_NANOS.get();
+        READ_TIMEOUT_NANOS.set(timeoutNanos);
+        try {
+            return call.get();
+        } finally {
+            if (previous == null) {
+                READ_TIMEOUT_NANOS.remove();
+            } else {
+                READ_TIMEOUT_NANOS.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Read timeout bound by {@link #withReadTimeout} in whole milliseconds, at least 1, or 0 when none is bound
+     */
+    public static int currentReadTimeoutMillis() {
+        Long timeoutNanos = READ_TIMEOUT_NANOS.get();
+        if (timeoutNanos == null) {
+            return 0;
+        }
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(1, TimeUnit.NANOSECONDS.toMillis(timeoutNanos)));
+    }
+}
@@ -0,0 +1,71 @@
+package com.reliaquest.api.config;
+
+import ch.qos.logback.classic.AsyncAppender;
+import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.exception.ExternalApiException;
+import com.reliaquest.api.exception.RateLimitExceededException;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.EmployeeCreateRequestDTO;
+import com.reliaquest.api.model.EmployeeDTO;
+import com.reliaquest.api.model.ExternalEmployeeDTO;
+import com.reliaquest.api.service.impl.EmployeeServiceImpl;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import java.io.IOException;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * Reflection and proxy metadata the native image needs beyond what AOT processing derives from bean definitions.
+ * Has no effect on the JVM.
+ */
+@Configuration
+@ImportRuntimeHints(ApiRuntimeHints.class)
+@RegisterReflectionForBinding({
+    ApiResponse.class,
+    EmployeeDTO.class,
+    ExternalEmployeeDTO.class,
+    EmployeeCreateRequestDTO.class
+})
+public class ApiRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // HttpServiceProxyFactory and the upstream aspects each wrap the client in a JDK proxy
+        hints.proxies().registerJdkProxy(AopProxyUtils.completeJdkProxyInterfaces(EmployeeApiClient.class));
+
+        // the resilience4j @Retry aspect reads the annotation and its fallback off the service's methods
+        hints.reflection()
+                .registerType(
+                        EmployeeServiceImpl.class,
+                        MemberCategory.INTROSPECT_DECLARED_METHODS,
+                        MemberCategory.INVOKE_DECLARED_METHODS);
+
+        // exception classes named in the resilience4j properties are loaded by name
+        for (Class<?> exception : new Class<?>[] {
+            HttpServerErrorException.class,
+            ResourceAccessException.class,
+            IOException.class,
+            RateLimitExceededException.class,
+            ExternalApiException.class,
+            BulkheadFullException.class
+        }) {
+            hints.reflection().registerType(exception);
+        }
+
+        // logback-spring.xml instantiates these and calls their setters
+        for (Class<?> logbackType : new Class<?>[] {SampledLogTurboFilter.class, AsyncAppender.class}) {
+            hints.reflection()
+                    .registerType(
+                            logbackType,
+                            MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                            MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+    }
+}
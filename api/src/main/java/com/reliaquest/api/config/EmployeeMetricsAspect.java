@@ -0,0 +1,153 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.exception.DeadlineExceededException;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.RateLimitExceededException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+/**
+ * Times every employee endpoint and every call to the mock employee API, tagged by method and outcome.
+ * Percentiles and histogram buckets are configured for the "employee" prefix under management.metrics.distribution.
+ * Timers are cached per method and outcome, so recording does not build meter ids on the hot path.
+ */
+@Aspect
+@Component
+public class EmployeeMetricsAspect {
+
+    static final String ENDPOINT_TIMER = "employee.api.requests";
+    static final String UPSTREAM_TIMER = "employee.upstream.requests";
+
+    private static final String EMPLOYEE_SERVER = "employee-server";
+
+    enum Outcome {
+        SUCCESS("success"),
+        NOT_FOUND("not_found"),
+        RATE_LIMITED("rate_limited"),
+        RETRY_EXHAUSTED("retry_exhausted"),
+        UPSTREAM_REJECTED("upstream_rejected"),
+        DEADLINE_EXCEEDED("deadline_exceeded"),
+        INVALID_REQUEST("invalid_request"),
+        CLIENT_ERROR("client_error"),
+        SERVER_ERROR("server_error"),
+        ERROR("error");
+
+        private final String tag;
+
+        Outcome(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final Predicate<Throwable> retryableFailure;
+    private final Map<Method, Timer[]> endpointTimers = new ConcurrentHashMap<>();
+    private final Map<Method, Timer[]> upstreamTimers = new ConcurrentHashMap<>();
+
+    public EmployeeMetricsAspect(MeterRegistry meterRegistry, RetryRegistry retryRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.retryableFailure = retryRegistry.retry(EMPLOYEE_SERVER).getRetryConfig().getExceptionPredicate();
+    }
+
+    @Around("execution(public * com.reliaquest.api.controller.IEmployeeController+.*(..))")
+    public Object timeEndpoint(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            Object result = joinPoint.proceed();
+            record(endpointTimers, ENDPOINT_TIMER, joinPoint, Outcome.SUCCESS, sample);
+            return result;
+        } catch (Throwable failure) {
+            record(endpointTimers, ENDPOINT_TIMER, joinPoint, endpointOutcome(failure), sample);
+            throw failure;
+        }
+    }
+
+    @Around("execution(* com.reliaquest.api.client.EmployeeApiClient.*(..))")
+    public Object timeUpstreamCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            Object result = joinPoint.proceed();
+            record(upstreamTimers, UPSTREAM_TIMER, joinPoint, Outcome.SUCCESS, sample);
+            return result;
+        } catch (Throwable failure) {
+            record(upstreamTimers, UPSTREAM_TIMER, joinPoint, upstreamOutcome(failure), sample);
+            throw failure;
+        }
+    }
+
+    /**
+     * Outcome of a whole request; a failure the retry would have retried has already used up its attempts here
+     */
+    Outcome endpointOutcome(Throwable failure) {
+        if (failure instanceof EmployeeNotFoundException || failure instanceof HttpClientErrorException.NotFound) {
+            return Outcome.NOT_FOUND;
+        }
+        if (failure instanceof RateLimitExceededException) {
+            return Outcome.RATE_LIMITED;
+        }
+        if (failure instanceof IllegalArgumentException) {
+            return Outcome.INVALID_REQUEST;
+        }
+        if (failure instanceof CallNotPermittedException || failure instanceof BulkheadFullException) {
+            return Outcome.UPSTREAM_REJECTED;
+        }
+        if (failure instanceof DeadlineExceededException) {
+            return Outcome.DEADLINE_EXCEEDED;
+        }
+        return retryableFailure.test(failure) ? Outcome.RETRY_EXHAUSTED : Outcome.ERROR;
+    }
+
+    /**
+     * Outcome of a single attempt against the mock employee API
+     */
+    static Outcome upstreamOutcome(Throwable failure) {
+        if (failure instanceof HttpClientErrorException.NotFound) {
+            return Outcome.NOT_FOUND;
+        }
+        if (failure instanceof RateLimitExceededException
+                || failure instanceof HttpClientErrorException.TooManyRequests) {
+            return Outcome.RATE_LIMITED;
+        }
+        if (failure instanceof HttpClientErrorException) {
+            return Outcome.CLIENT_ERROR;
+        }
+        if (failure instanceof HttpServerErrorException) {
+            return Outcome.SERVER_ERROR;
+        }
+        return Outcome.ERROR;
+    }
+
+    private void record(
+            Map<Method, Timer[]> timers,
+            String name,
+            ProceedingJoinPoint joinPoint,
+            Outcome outcome,
+            Timer.Sample sample) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Timer[] timersByOutcome = timers.computeIfAbsent(method, ignored -> new Timer[Outcome.values().length]);
+        Timer timer = timersByOutcome[outcome.ordinal()];
+        if (timer == null) {
+            // registering twice under a race returns the same timer, so the unsynchronised store is harmless
+            timer = Timer.builder(name)
+                    .tag("method", method.getName())
+                    .tag("outcome", outcome.tag)
+                    .register(meterRegistry);
+            timersByOutcome[outcome.ordinal()] = timer;
+        }
+        sample.stop(timer);
+    }
+}
@@ -0,0 +1,35 @@
+package com.reliaquest.api.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Logs how long after JVM start the first successful response was sent, to track warm-restart latency
+ */
+@Slf4j
+@Component
+public class FirstResponseTimingFilter extends OncePerRequestFilter {
+
+    private final AtomicBoolean recorded = new AtomicBoolean();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        filterChain.doFilter(request, response);
+        if (!recorded.get() && response.getStatus() < 400 && recorded.compareAndSet(false, true)) {
+            log.info(
+                    "First successful response ({} {}) sent {}ms after JVM start",
+                    request.getMethod(),
+                    request.getRequestURI(),
+                    ManagementFactory.getRuntimeMXBean().getUptime());
+        }
+    }
+}
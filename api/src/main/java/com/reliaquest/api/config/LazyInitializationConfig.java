@@ -0,0 +1,31 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.controller.EmployeeController;
+import com.reliaquest.api.roster.RosterRefresher;
+import com.reliaquest.api.roster.RosterSnapshotScheduler;
+import com.reliaquest.api.service.EmployeeService;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Beans kept eager when the fast-start profile turns on lazy initialisation.
+ * The employee request path is built during startup, so the first request does not pay for it, the roster
+ * snapshot scheduler has to exist to restore the snapshot and to have its @Scheduled method registered, and the
+ * roster refresher has to exist to warm the cache.
+ * Not tied to the profile, since AOT processing would fix the profile check at build time.
+ */
+@Configuration
+public class LazyInitializationConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter employeeRequestPathExcludeFilter() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                EmployeeController.class,
+                EmployeeService.class,
+                EmployeeApiClient.class,
+                RosterSnapshotScheduler.class,
+                RosterRefresher.class);
+    }
+}
@@ -0,0 +1,50 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.client.RequestDeadline;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Binds each request's deadline to the serving thread: employee.api.request-deadline after arrival, or sooner
+ * when the caller sends a smaller budget in the X-Request-Timeout-Ms header.
+ */
+@Component
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+
+    private final Duration budget;
+
+    public RequestDeadlineFilter(@Value("${employee.api.request-deadline:15s}") Duration budget) {
+        this.budget = budget;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestDeadline.after(budgetFor(request)).bind();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestDeadline.clear();
+        }
+    }
+
+    Duration budgetFor(HttpServletRequest request) {
+        String header = request.getHeader(RequestDeadline.TIMEOUT_HEADER);
+        if (header == null) {
+            return budget;
+        }
+        try {
+            Duration requested = Duration.ofMillis(Math.max(0, Long.parseLong(header.trim())));
+            return requested.compareTo(budget) < 0 ? requested : budget;
+        } catch (NumberFormatException e) {
+            return budget;
+        }
+    }
+}
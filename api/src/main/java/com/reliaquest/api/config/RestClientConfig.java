@@ -1,12 +1,25 @@
 package com.reliaquest.api.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.client.RateLimitWindow;
+import com.reliaquest.api.client.RequestDeadline;
+import com.reliaquest.api.client.UpstreamTimeouts;
 import com.reliaquest.api.exception.RateLimitExceededException;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.util.concurrent.TimeUnit;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.support.RestClientAdapter;
 import org.springframework.web.service.invoker.HttpServiceProxyFactory;
@@ -23,13 +36,27 @@ public class RestClientConfig {
     @Value("${employee.api.base-url}")
     private String baseUrl;
 
+    @Value("${employee.api.media-type:application/json}")
+    private String mediaType;
+
     /**
-     * Creates a HttpRequestFactory with custom timeout values provided in application config
+     * Creates a HttpRequestFactory with custom timeout values provided in application config.
+     * The read timeout of a call made through EmployeeApiClient is its operation's timeout, capped by the
+     * request's remaining deadline, see UpstreamTimeouts and UpstreamDeadlineAspect.
      * @return ClientHttpRequestFactory
      */
     @Bean
     public ClientHttpRequestFactory clientHttpRequestFactory() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory() {
+            @Override
+            protected void prepareConnection(HttpURLConnection connection, String httpMethod) throws IOException {
+                super.prepareConnection(connection, httpMethod);
+                int readTimeout = UpstreamTimeouts.currentReadTimeoutMillis();
+                if (readTimeout > 0) {
+                    connection.setReadTimeout(readTimeout);
+                }
+            }
+        };
         factory.setConnectTimeout(timeout);
         factory.setReadTimeout(timeout);
         return factory;
@@ -37,16 +64,48 @@ public class RestClientConfig {
 
     /**
      * Creates a RestClient configured with rate limiting detection.
+     * Responses are requested in the configured media type; application/x-jackson-smile selects the binary
+     * Smile encoding, which the default message converters read when jackson-dataformat-smile is present.
+     * The Jackson converters use the application ObjectMapper, so the hand-written DTO (de)serializers in
+     * EmployeeJsonComponents apply to the mock API traffic as well.
      * When HTTP 429 (Too Many Requests) is received, it throws
      * RateLimitExceededException
      * which triggers the retry mechanism configured in Resilience4j.
+     * Every answer is also reported to RateLimitWindow, which learns how long the rate limit lasts.
+     * @param objectMapper
+     * @param rateLimitWindow
      * @return RestClient
      */
     @Bean
-    public RestClient restClient() {
+    public RestClient restClient(ObjectMapper objectMapper, RateLimitWindow rateLimitWindow) {
         return RestClient.builder()
                 .baseUrl(baseUrl)
                 .requestFactory(clientHttpRequestFactory())
+                .defaultHeader(HttpHeaders.ACCEPT, mediaType)
+                .requestInterceptor((request, body, execution) -> {
+                    RequestDeadline deadline = RequestDeadline.current();
+                    if (deadline != null) {
+                        long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline.remainingNanos());
+                        request.getHeaders()
+                                .set(RequestDeadline.TIMEOUT_HEADER, Long.toString(Math.max(0, remainingMillis)));
+                    }
+                    ClientHttpResponse response = execution.execute(request, body);
+                    if (response.getStatusCode().value() == 429) {
+                        rateLimitWindow.rateLimited();
+                    } else if (response.getStatusCode().is2xxSuccessful()) {
+                        rateLimitWindow.accepted();
+                    }
+                    return response;
+                })
+                .messageConverters(converters -> {
+                    for (HttpMessageConverter<?> converter : converters) {
+                        if (converter instanceof MappingJackson2HttpMessageConverter json) {
+                            json.setObjectMapper(objectMapper);
+                        } else if (converter instanceof MappingJackson2SmileHttpMessageConverter smile) {
+                            smile.setObjectMapper(objectMapper.copyWith(new SmileFactory()));
+                        }
+                    }
+                })
                 .defaultStatusHandler(status -> status.value() == 429, (request, response) -> {
                     throw new RateLimitExceededException("Rate limit exceeded (HTTP 429) - triggering retry mechanism");
                 })
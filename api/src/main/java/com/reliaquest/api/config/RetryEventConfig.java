@@ -1,54 +1,39 @@
 package com.reliaquest.api.config;
 
+import io.github.resilience4j.core.registry.EntryAddedEvent;
+import io.github.resilience4j.core.registry.EntryRemovedEvent;
+import io.github.resilience4j.core.registry.EntryReplacedEvent;
+import io.github.resilience4j.core.registry.RegistryEventConsumer;
 import io.github.resilience4j.retry.Retry;
-import io.github.resilience4j.retry.RetryRegistry;
-import lombok.extern.slf4j.Slf4j;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 /**
- * Configuration for retry event logging
+ * Configuration for retry event metrics, see RetryMetrics
  */
-@Slf4j
 @Configuration
 public class RetryEventConfig {
 
+    /**
+     * Binds metrics to every retry instance of the registry the resilience4j starter builds from the
+     * resilience4j.retry properties; only final failures are still logged above DEBUG
+     */
     @Bean
-    public RetryRegistry retryRegistry() {
-        RetryRegistry retryRegistry = RetryRegistry.ofDefaults();
+    public RegistryEventConsumer<Retry> retryMetricsRegistryEventConsumer(MeterRegistry meterRegistry) {
+        return new RegistryEventConsumer<>() {
+            @Override
+            public void onEntryAddedEvent(EntryAddedEvent<Retry> entryAddedEvent) {
+                RetryMetrics.bind(entryAddedEvent.getAddedEntry(), meterRegistry);
+            }
 
-        // Add event listeners for all retry instances
-        retryRegistry.getEventPublisher().onEntryAdded(entryAddedEvent -> {
-            Retry retry = entryAddedEvent.getAddedEntry();
-            retry.getEventPublisher().onRetry(event -> {
-                log.warn(
-                        "Retry attempt {} for operation '{}' due to: {} - waiting {}ms before next attempt",
-                        event.getNumberOfRetryAttempts(),
-                        retry.getName(),
-                        event.getLastThrowable().getClass().getSimpleName() + ": "
-                                + event.getLastThrowable().getMessage(),
-                        retry.getRetryConfig().getIntervalFunction().apply(event.getNumberOfRetryAttempts()));
-            });
+            @Override
+            public void onEntryRemovedEvent(EntryRemovedEvent<Retry> entryRemoveEvent) {}
 
-            retry.getEventPublisher().onSuccess(event -> {
-                if (event.getNumberOfRetryAttempts() > 0) {
-                    log.info(
-                            "Operation '{}' succeeded after {} retry attempts",
-                            retry.getName(),
-                            event.getNumberOfRetryAttempts());
-                }
-            });
-
-            retry.getEventPublisher().onError(event -> {
-                log.error(
-                        "Operation '{}' failed after {} attempts. Final error: {}",
-                        retry.getName(),
-                        event.getNumberOfRetryAttempts(),
-                        event.getLastThrowable().getClass().getSimpleName() + ": "
-                                + event.getLastThrowable().getMessage());
-            });
-        });
-
-        return retryRegistry;
+            @Override
+            public void onEntryReplacedEvent(EntryReplacedEvent<Retry> entryReplacedEvent) {
+                RetryMetrics.bind(entryReplacedEvent.getNewEntry(), meterRegistry);
+            }
+        };
     }
 }
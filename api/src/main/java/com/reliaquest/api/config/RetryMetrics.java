@@ -0,0 +1,128 @@
+package com.reliaquest.api.config;
+
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.event.RetryEvent;
+import io.github.resilience4j.retry.event.RetryOnErrorEvent;
+import io.github.resilience4j.retry.event.RetryOnIgnoredErrorEvent;
+import io.github.resilience4j.retry.event.RetryOnRetryEvent;
+import io.github.resilience4j.retry.event.RetryOnSuccessEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Turns the events of one retry instance into metrics:
+ * employee.retry.events counts retried attempts and final outcomes per exception type,
+ * employee.retry.backoff records the total wait of each call that was retried and
+ * employee.retry.in_backoff gauges the calls currently waiting between attempts.
+ * Retries run synchronously on the caller's thread, so a call's waits are summed per thread until its final event.
+ */
+@Slf4j
+final class RetryMetrics {
+
+    static final String EVENTS = "employee.retry.events";
+    static final String BACKOFF = "employee.retry.backoff";
+    static final String IN_BACKOFF = "employee.retry.in_backoff";
+
+    private final Retry retry;
+    private final MeterRegistry meterRegistry;
+    private final Timer backoff;
+    private final ThreadLocal<long[]> callBackoffNanos = ThreadLocal.withInitial(() -> new long[1]);
+    private final Queue<Long> backoffEnds = new ConcurrentLinkedQueue<>();
+
+    private RetryMetrics(Retry retry, MeterRegistry meterRegistry) {
+        this.retry = retry;
+        this.meterRegistry = meterRegistry;
+        this.backoff = Timer.builder(BACKOFF)
+                .description("Total time a retried call spent waiting between attempts")
+                .tag("name", retry.getName())
+                .register(meterRegistry);
+        Gauge.builder(IN_BACKOFF, this, RetryMetrics::callsInBackoff)
+                .description("Calls currently waiting before their next attempt")
+                .tag("name", retry.getName())
+                .register(meterRegistry);
+    }
+
+    /**
+     * Subscribes to the retry's events; the event publisher keeps the returned metrics reachable
+     */
+    static RetryMetrics bind(Retry retry, MeterRegistry meterRegistry) {
+        RetryMetrics metrics = new RetryMetrics(retry, meterRegistry);
+        retry.getEventPublisher()
+                .onRetry(metrics::onRetry)
+                .onSuccess(metrics::onSuccess)
+                .onError(metrics::onError)
+                .onIgnoredError(metrics::onIgnoredError);
+        return metrics;
+    }
+
+    private void onRetry(RetryOnRetryEvent event) {
+        long waitNanos = event.getWaitInterval().toNanos();
+        callBackoffNanos.get()[0] += waitNanos;
+        long now = System.nanoTime();
+        backoffEnds.removeIf(end -> end - now <= 0);
+        backoffEnds.add(now + waitNanos);
+        count("retry", event);
+        log.debug(
+                "Retry attempt {} for operation '{}' due to: {} - waiting {}ms before next attempt",
+                event.getNumberOfRetryAttempts(),
+                retry.getName(),
+                describe(event.getLastThrowable()),
+                event.getWaitInterval().toMillis());
+    }
+
+    private void onSuccess(RetryOnSuccessEvent event) {
+        completeCall(event);
+        count("success_after_retry", event);
+        log.debug(
+                "Operation '{}' succeeded after {} retry attempts", retry.getName(), event.getNumberOfRetryAttempts());
+    }
+
+    private void onError(RetryOnErrorEvent event) {
+        completeCall(event);
+        count("exhausted", event);
+        log.warn(
+                "Operation '{}' failed after {} attempts. Final error: {}",
+                retry.getName(),
+                event.getNumberOfRetryAttempts(),
+                describe(event.getLastThrowable()));
+    }
+
+    private void onIgnoredError(RetryOnIgnoredErrorEvent event) {
+        completeCall(event);
+        count("ignored", event);
+    }
+
+    private void completeCall(RetryEvent event) {
+        long[] waited = callBackoffNanos.get();
+        if (event.getNumberOfRetryAttempts() > 0) {
+            backoff.record(waited[0], TimeUnit.NANOSECONDS);
+        }
+        waited[0] = 0;
+    }
+
+    private void count(String kind, RetryEvent event) {
+        Throwable failure = event.getLastThrowable();
+        Counter.builder(EVENTS)
+                .tag("name", retry.getName())
+                .tag("kind", kind)
+                .tag("exception", failure != null ? failure.getClass().getSimpleName() : "none")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private double callsInBackoff() {
+        long now = System.nanoTime();
+        backoffEnds.removeIf(end -> end - now <= 0);
+        return backoffEnds.size();
+    }
+
+    private static String describe(Throwable failure) {
+        return failure == null ? "none" : failure.getClass().getSimpleName() + ": " + failure.getMessage();
+    }
+}
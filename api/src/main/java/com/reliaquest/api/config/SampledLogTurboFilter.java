@@ -0,0 +1,48 @@
+package com.reliaquest.api.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import java.util.concurrent.ThreadLocalRandom;
+import org.slf4j.Marker;
+
+/**
+ * Keeps roughly one in {@code sampleRate} records below WARN from loggers under {@code loggerPrefix} and drops the
+ * rest before an event is created, so sampled-out per-request lines cost a prefix check and a random draw.
+ * WARN and ERROR always pass. Configured in the prod profile of logback-spring.xml.
+ */
+public class SampledLogTurboFilter extends TurboFilter {
+
+    private String loggerPrefix = "";
+    private int sampleRate = 1;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (!isStarted()
+                || sampleRate == 1
+                || level.isGreaterOrEqual(Level.WARN)
+                || !logger.getName().startsWith(loggerPrefix)) {
+            return FilterReply.NEUTRAL;
+        }
+        // a per-thread draw rather than a shared counter, so request threads never contend on the filter
+        return ThreadLocalRandom.current().nextInt(sampleRate) == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    @Override
+    public void start() {
+        if (sampleRate < 1) {
+            addError("sampleRate must be at least 1 but was " + sampleRate);
+            return;
+        }
+        super.start();
+    }
+
+    public void setLoggerPrefix(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+    }
+
+    public void setSampleRate(int sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+}
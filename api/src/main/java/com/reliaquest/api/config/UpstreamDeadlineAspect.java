@@ -0,0 +1,94 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.client.RequestDeadline;
+import com.reliaquest.api.client.UpstreamTimeouts;
+import com.reliaquest.api.exception.DeadlineExceededException;
+import io.github.resilience4j.core.IntervalBiFunction;
+import io.github.resilience4j.core.functions.Either;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounds every call to the mock employee API by its operation's timeout and the request's remaining deadline.
+ * A call whose request has run out of time is not sent, and a failure the retry would retry is turned into
+ * DeadlineExceededException when the backoff before the next attempt outlasts the deadline, so no attempt is made
+ * whose answer nobody waits for. Calls made outside a request, such as roster refreshes, only get the timeout.
+ * Runs outside UpstreamResilienceAspect, so the circuit breaker records the real failure.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class UpstreamDeadlineAspect {
+
+    static final String DEADLINE_EXCEEDED = "employee.deadline.exceeded";
+
+    private static final String EMPLOYEE_SERVER = "employee-server";
+
+    private final UpstreamTimeouts upstreamTimeouts;
+    private final MeterRegistry meterRegistry;
+    private final Predicate<Throwable> retryableFailure;
+    private final IntervalBiFunction<Object> retryInterval;
+    private final int maxAttempts;
+
+    public UpstreamDeadlineAspect(
+            UpstreamTimeouts upstreamTimeouts, MeterRegistry meterRegistry, RetryRegistry retryRegistry) {
+        RetryConfig retryConfig = retryRegistry.retry(EMPLOYEE_SERVER).getRetryConfig();
+        this.upstreamTimeouts = upstreamTimeouts;
+        this.meterRegistry = meterRegistry;
+        this.retryableFailure = retryConfig.getExceptionPredicate();
+        this.retryInterval = retryConfig.getIntervalBiFunction();
+        this.maxAttempts = retryConfig.getMaxAttempts();
+    }
+
+    @Around("execution(* com.reliaquest.api.client.EmployeeApiClient.*(..))")
+    public Object boundUpstreamCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        String operation = joinPoint.getSignature().getName();
+        RequestDeadline deadline = RequestDeadline.current();
+        long timeoutNanos = upstreamTimeouts.timeoutNanos(operation);
+        int attempt = 0;
+        if (deadline != null) {
+            long remainingNanos = deadline.remainingNanos();
+            if (remainingNanos <= 0) {
+                exceeded(operation, "before_call").increment();
+                throw new DeadlineExceededException("Request deadline passed before calling " + operation);
+            }
+            timeoutNanos = Math.min(timeoutNanos, remainingNanos);
+            attempt = deadline.countAttempt(operation);
+        }
+
+        long started = System.nanoTime();
+        try {
+            Object result = UpstreamTimeouts.withReadTimeout(timeoutNanos, joinPoint::proceed);
+            upstreamTimeouts.record(operation, System.nanoTime() - started);
+            return result;
+        } catch (Throwable failure) {
+            if (deadline != null && attempt < maxAttempts && retryableFailure.test(failure)) {
+                long waitNanos = TimeUnit.MILLISECONDS.toNanos(retryInterval.apply(attempt, Either.left(failure)));
+                if (deadline.remainingNanos() < waitNanos) {
+                    exceeded(operation, "retry_skipped").increment();
+                    throw new DeadlineExceededException(
+                            "Request deadline leaves no time to retry " + operation + ": " + failure.getMessage(),
+                            failure);
+                }
+            }
+            throw failure;
+        }
+    }
+
+    private Counter exceeded(String operation, String stage) {
+        return Counter.builder(DEADLINE_EXCEEDED)
+                .tag("operation", operation)
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+}
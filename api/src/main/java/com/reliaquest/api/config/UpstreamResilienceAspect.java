@@ -0,0 +1,44 @@
+package com.reliaquest.api.config;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Guards every call to the mock employee API with the "employee-server" bulkhead and circuit breaker.
+ * They wrap the client rather than the service, so each retry attempt is one breaker call and reads answered from
+ * the cached roster keep working while the breaker is open. Rejected calls fail with BulkheadFullException or
+ * CallNotPermittedException, which the retry does not retry; GlobalExceptionHandler answers them with 503.
+ * Runs outside EmployeeMetricsAspect, so rejected calls are not timed as upstream requests, and inside
+ * UpstreamDeadlineAspect, so calls past their request's deadline take no permit.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class UpstreamResilienceAspect {
+
+    private static final String EMPLOYEE_SERVER = "employee-server";
+
+    private final Bulkhead bulkhead;
+    private final CircuitBreaker circuitBreaker;
+
+    public UpstreamResilienceAspect(BulkheadRegistry bulkheadRegistry, CircuitBreakerRegistry circuitBreakerRegistry) {
+        this.bulkhead = bulkheadRegistry.bulkhead(EMPLOYEE_SERVER);
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(EMPLOYEE_SERVER);
+    }
+
+    @Around("execution(* com.reliaquest.api.client.EmployeeApiClient.*(..))")
+    public Object guardUpstreamCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        // the breaker is checked first, so an open circuit rejects calls without taking a bulkhead permit
+        return CircuitBreaker.decorateCheckedSupplier(
+                        circuitBreaker, Bulkhead.decorateCheckedSupplier(bulkhead, joinPoint::proceed))
+                .get();
+    }
+}
@@ -2,6 +2,8 @@ package com.reliaquest.api.controller;
 
 import com.reliaquest.api.model.EmployeeCreateRequestDTO;
 import com.reliaquest.api.model.EmployeeDTO;
+import com.reliaquest.api.model.EmployeeQuery;
+import com.reliaquest.api.model.NameSearchMode;
 import com.reliaquest.api.service.EmployeeService;
 import jakarta.validation.Valid;
 import java.util.List;
@@ -22,15 +24,15 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class EmployeeController implements IEmployeeController<EmployeeDTO, EmployeeCreateRequestDTO> {
 
+    private static final int MAX_SEARCH_LIMIT = 100;
+
     private final EmployeeService employeeService;
 
     @Override
     public ResponseEntity<List<EmployeeDTO>> getAllEmployees() {
         log.info("GET /api/v1/employee - Fetching all employees");
-        long startTs = System.currentTimeMillis();
         List<EmployeeDTO> employees = employeeService.getAllEmployees();
-        log.info(
-                "Successfully retrieved {} employees in {} ms", employees.size(), System.currentTimeMillis() - startTs);
+        log.info("Successfully retrieved {} employees", employees.size());
         return ResponseEntity.ok(employees);
     }
 
@@ -44,6 +46,42 @@ public class EmployeeController implements IEmployeeController<EmployeeDTO, Empl
         return ResponseEntity.ok(employees);
     }
 
+    /**
+     * Ranked name search alongside /search/{searchString}: prefix autocomplete or typo-tolerant matching
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<EmployeeDTO>> searchEmployeesByName(
+            @RequestParam String query,
+            @RequestParam(defaultValue = "PREFIX") NameSearchMode mode,
+            @RequestParam(defaultValue = "10") int limit) {
+        log.info("GET /api/v1/employee/search?query={}&mode={} - Ranked name search", query, mode);
+
+        if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_SEARCH_LIMIT);
+        }
+
+        List<EmployeeDTO> employees = employeeService.searchEmployeesByName(query, mode, limit);
+
+        log.info("Found {} ranked matches for: {}", employees.size(), query);
+        return ResponseEntity.ok(employees);
+    }
+
+    /**
+     * Multi-attribute filter, e.g. /query?title=Engineer&minAge=30&maxAge=40&minSalary=150000
+     */
+    @GetMapping("/query")
+    public ResponseEntity<List<EmployeeDTO>> queryEmployees(@ModelAttribute EmployeeQuery query) {
+        log.info("GET /api/v1/employee/query - Querying employees with: {}", query);
+
+        validateRange("minAge", query.getMinAge(), "maxAge", query.getMaxAge());
+        validateRange("minSalary", query.getMinSalary(), "maxSalary", query.getMaxSalary());
+
+        List<EmployeeDTO> employees = employeeService.queryEmployees(query);
+
+        log.info("Found {} employees matching query", employees.size());
+        return ResponseEntity.ok(employees);
+    }
+
     @Override
     public ResponseEntity<EmployeeDTO> getEmployeeById(String id) {
         log.info("GET /api/v1/employee/{} - Fetching employee by ID", id);
@@ -99,6 +137,12 @@ public class EmployeeController implements IEmployeeController<EmployeeDTO, Empl
         return ResponseEntity.ok(deletedEmployeeName);
     }
 
+    private static void validateRange(String minName, Integer min, String maxName, Integer max) {
+        if (min != null && max != null && min > max) {
+            throw new IllegalArgumentException(minName + " must not exceed " + maxName);
+        }
+    }
+
     @NotNull private static UUID getUuidFromString(String id) {
         // Validate UUID format
         UUID employeeId;
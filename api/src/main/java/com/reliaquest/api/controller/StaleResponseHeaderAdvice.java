@@ -0,0 +1,44 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.roster.StaleRosterReads;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Marks responses answered from a stale roster with its age in seconds (Age) and why upstream was not used
+ * (X-Stale-Reason: rate_limited, upstream_rejected, upstream_error or deadline_exceeded)
+ */
+@RestControllerAdvice
+public class StaleResponseHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    static final String STALE_REASON_HEADER = "X-Stale-Reason";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            Object body,
+            MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request,
+            ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest
+                && servletRequest.getServletRequest().getAttribute(StaleRosterReads.STALE_RESPONSE_ATTRIBUTE)
+                        instanceof StaleRosterReads.StaleResponse stale) {
+            response.getHeaders().set(HttpHeaders.AGE, Long.toString(stale.age().toSeconds()));
+            response.getHeaders().set(STALE_REASON_HEADER, stale.reason());
+        }
+        return body;
+    }
+}
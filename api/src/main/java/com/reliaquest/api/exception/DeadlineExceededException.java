@@ -0,0 +1,16 @@
+package com.reliaquest.api.exception;
+
+/**
+ * Exception thrown when a request's deadline leaves no time for another upstream attempt.
+ * It is not in the retry's retryExceptions, so it ends the retry loop.
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+
+    public DeadlineExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,5 +1,7 @@
 package com.reliaquest.api.exception;
 
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import java.util.HashMap;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
@@ -41,6 +43,30 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(error);
     }
 
+    @ExceptionHandler(CallNotPermittedException.class)
+    public ResponseEntity<Map<String, String>> handleCircuitOpen(CallNotPermittedException ex) {
+        log.warn("Upstream call rejected: {}", ex.getMessage());
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Employee service is unavailable. Please try again later.");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
+    }
+
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<Map<String, String>> handleBulkheadFull(BulkheadFullException ex) {
+        log.warn("Upstream call rejected: {}", ex.getMessage());
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Too many concurrent requests to the employee service. Please try again later.");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
+    }
+
+    @ExceptionHandler(DeadlineExceededException.class)
+    public ResponseEntity<Map<String, String>> handleDeadlineExceeded(DeadlineExceededException ex) {
+        log.warn("Request deadline exceeded: {}", ex.getMessage());
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Employee service did not answer in time. Please try again later.");
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(error);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, String>> handleValidationExceptions(MethodArgumentNotValidException ex) {
         Map<String, String> errors = new HashMap<>();
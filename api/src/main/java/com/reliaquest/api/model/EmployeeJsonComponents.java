@@ -0,0 +1,357 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import java.io.IOException;
+import java.util.UUID;
+import org.springframework.boot.jackson.JsonComponent;
+
+/**
+ * Hand-written Jackson serializers and deserializers for the employee DTOs and the mock API envelope.
+ * They produce the same JSON as the reflective bean serializers, but read and write each property directly
+ * instead of going through Lombok accessors by reflection for every element of every roster.
+ * Spring Boot registers them on the MVC ObjectMapper; RestClientConfig hands that mapper to the RestClient.
+ * Values in an unexpected shape fall back to Jackson's standard handling, including its coercions and errors.
+ */
+@JsonComponent
+public class EmployeeJsonComponents {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString EMPLOYEE_NAME = new SerializedString("employee_name");
+    private static final SerializedString EMPLOYEE_SALARY = new SerializedString("employee_salary");
+    private static final SerializedString EMPLOYEE_AGE = new SerializedString("employee_age");
+    private static final SerializedString EMPLOYEE_TITLE = new SerializedString("employee_title");
+    private static final SerializedString EMPLOYEE_EMAIL = new SerializedString("employee_email");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString SALARY = new SerializedString("salary");
+    private static final SerializedString AGE = new SerializedString("age");
+    private static final SerializedString TITLE = new SerializedString("title");
+    private static final SerializedString EMAIL = new SerializedString("email");
+    private static final SerializedString REQUEST_NAME = new SerializedString("employeeName");
+    private static final SerializedString REQUEST_SALARY = new SerializedString("employeeSalary");
+    private static final SerializedString REQUEST_AGE = new SerializedString("employeeAge");
+    private static final SerializedString REQUEST_TITLE = new SerializedString("employeeTitle");
+    private static final SerializedString REQUEST_EMAIL = new SerializedString("employeeEmail");
+    private static final SerializedString DATA = new SerializedString("data");
+    private static final SerializedString STATUS = new SerializedString("status");
+
+    public static class EmployeeDTOSerializer extends StdSerializer<EmployeeDTO> {
+
+        public EmployeeDTOSerializer() {
+            super(EmployeeDTO.class);
+        }
+
+        @Override
+        public void serialize(EmployeeDTO employee, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            generator.writeStartObject(employee);
+            generator.writeFieldName(ID);
+            writeUuid(generator, employee.getId());
+            generator.writeFieldName(EMPLOYEE_NAME);
+            generator.writeString(employee.getName());
+            generator.writeFieldName(EMPLOYEE_SALARY);
+            writeInteger(generator, employee.getSalary());
+            generator.writeFieldName(EMPLOYEE_AGE);
+            writeInteger(generator, employee.getAge());
+            generator.writeFieldName(EMPLOYEE_TITLE);
+            generator.writeString(employee.getTitle());
+            generator.writeFieldName(EMPLOYEE_EMAIL);
+            generator.writeString(employee.getEmail());
+            generator.writeEndObject();
+        }
+    }
+
+    public static class EmployeeDTODeserializer extends StdDeserializer<EmployeeDTO> {
+
+        public EmployeeDTODeserializer() {
+            super(EmployeeDTO.class);
+        }
+
+        @Override
+        public EmployeeDTO deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            EmployeeDTO employee = new EmployeeDTO();
+            readFields(parser, context, this, name -> {
+                switch (name) {
+                    case "id" -> employee.setId(readUuid(parser, context));
+                    case "employee_name" -> employee.setName(readString(parser, context));
+                    case "employee_salary" -> employee.setSalary(readInteger(parser, context));
+                    case "employee_age" -> employee.setAge(readInteger(parser, context));
+                    case "employee_title" -> employee.setTitle(readString(parser, context));
+                    case "employee_email" -> employee.setEmail(readString(parser, context));
+                    default -> {
+                        return false;
+                    }
+                }
+                return true;
+            });
+            return employee;
+        }
+    }
+
+    public static class ExternalEmployeeDTOSerializer extends StdSerializer<ExternalEmployeeDTO> {
+
+        public ExternalEmployeeDTOSerializer() {
+            super(ExternalEmployeeDTO.class);
+        }
+
+        @Override
+        public void serialize(ExternalEmployeeDTO employee, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            generator.writeStartObject(employee);
+            generator.writeFieldName(NAME);
+            generator.writeString(employee.getName());
+            generator.writeFieldName(SALARY);
+            writeInteger(generator, employee.getSalary());
+            generator.writeFieldName(AGE);
+            writeInteger(generator, employee.getAge());
+            generator.writeFieldName(TITLE);
+            generator.writeString(employee.getTitle());
+            generator.writeFieldName(EMAIL);
+            generator.writeString(employee.getEmail());
+            generator.writeEndObject();
+        }
+    }
+
+    public static class ExternalEmployeeDTODeserializer extends StdDeserializer<ExternalEmployeeDTO> {
+
+        public ExternalEmployeeDTODeserializer() {
+            super(ExternalEmployeeDTO.class);
+        }
+
+        @Override
+        public ExternalEmployeeDTO deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            ExternalEmployeeDTO employee = new ExternalEmployeeDTO();
+            readFields(parser, context, this, name -> {
+                switch (name) {
+                    case "name" -> employee.setName(readString(parser, context));
+                    case "salary" -> employee.setSalary(readInteger(parser, context));
+                    case "age" -> employee.setAge(readInteger(parser, context));
+                    case "title" -> employee.setTitle(readString(parser, context));
+                    case "email" -> employee.setEmail(readString(parser, context));
+                    default -> {
+                        return false;
+                    }
+                }
+                return true;
+            });
+            return employee;
+        }
+    }
+
+    public static class EmployeeCreateRequestDTOSerializer extends StdSerializer<EmployeeCreateRequestDTO> {
+
+        public EmployeeCreateRequestDTOSerializer() {
+            super(EmployeeCreateRequestDTO.class);
+        }
+
+        @Override
+        public void serialize(EmployeeCreateRequestDTO request, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            generator.writeStartObject(request);
+            generator.writeFieldName(REQUEST_NAME);
+            generator.writeString(request.getEmployeeName());
+            generator.writeFieldName(REQUEST_SALARY);
+            writeInteger(generator, request.getEmployeeSalary());
+            generator.writeFieldName(REQUEST_AGE);
+            writeInteger(generator, request.getEmployeeAge());
+            generator.writeFieldName(REQUEST_TITLE);
+            generator.writeString(request.getEmployeeTitle());
+            generator.writeFieldName(REQUEST_EMAIL);
+            generator.writeString(request.getEmployeeEmail());
+            generator.writeEndObject();
+        }
+    }
+
+    public static class EmployeeCreateRequestDTODeserializer extends StdDeserializer<EmployeeCreateRequestDTO> {
+
+        public EmployeeCreateRequestDTODeserializer() {
+            super(EmployeeCreateRequestDTO.class);
+        }
+
+        @Override
+        public EmployeeCreateRequestDTO deserialize(JsonParser parser, DeserializationContext context)
+                throws IOException {
+            EmployeeCreateRequestDTO.EmployeeCreateRequestDTOBuilder request = EmployeeCreateRequestDTO.builder();
+            readFields(parser, context, this, name -> {
+                switch (name) {
+                    case "employeeName" -> request.employeeName(readString(parser, context));
+                    case "employeeSalary" -> request.employeeSalary(readInteger(parser, context));
+                    case "employeeAge" -> request.employeeAge(readInteger(parser, context));
+                    case "employeeTitle" -> request.employeeTitle(readString(parser, context));
+                    case "employeeEmail" -> request.employeeEmail(readString(parser, context));
+                    default -> {
+                        return false;
+                    }
+                }
+                return true;
+            });
+            return request.build();
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    public static class ApiResponseSerializer extends StdSerializer<ApiResponse> {
+
+        public ApiResponseSerializer() {
+            super(ApiResponse.class);
+        }
+
+        @Override
+        public void serialize(ApiResponse response, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            generator.writeStartObject(response);
+            generator.writeFieldName(DATA);
+            provider.defaultSerializeValue(response.getData(), generator);
+            generator.writeFieldName(STATUS);
+            generator.writeString(response.getStatus());
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Resolves the deserializer for {@code data} once per target type, e.g. List&lt;EmployeeDTO&gt;,
+     * so each response only walks its two fields
+     */
+    public static class ApiResponseDeserializer extends StdDeserializer<ApiResponse<Object>>
+            implements ContextualDeserializer {
+
+        private final JsonDeserializer<Object> dataDeserializer;
+
+        public ApiResponseDeserializer() {
+            this(null);
+        }
+
+        private ApiResponseDeserializer(JsonDeserializer<Object> dataDeserializer) {
+            super(ApiResponse.class);
+            this.dataDeserializer = dataDeserializer;
+        }
+
+        @Override
+        public JsonDeserializer<?> createContextual(DeserializationContext context, BeanProperty property)
+                throws JsonMappingException {
+            JavaType type = property != null ? property.getType() : context.getContextualType();
+            JavaType dataType = type != null ? type.containedTypeOrUnknown(0) : context.constructType(Object.class);
+            return new ApiResponseDeserializer(context.findContextualValueDeserializer(dataType, property));
+        }
+
+        @Override
+        public ApiResponse<Object> deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            ApiResponse<Object> response = new ApiResponse<>();
+            readFields(parser, context, this, name -> {
+                switch (name) {
+                    case "data" -> response.setData(
+                            parser.currentToken() == JsonToken.VALUE_NULL
+                                    ? dataDeserializer.getNullValue(context)
+                                    : dataDeserializer.deserialize(parser, context));
+                    case "status" -> response.setStatus(readString(parser, context));
+                    default -> {
+                        return false;
+                    }
+                }
+                return true;
+            });
+            return response;
+        }
+    }
+
+    @FunctionalInterface
+    private interface FieldReader {
+
+        /**
+         * Reads the value of {@code name} the parser is positioned on, or returns false for unknown fields
+         */
+        boolean read(String name) throws IOException;
+    }
+
+    /**
+     * Walks the fields of the current object; unknown fields are skipped or rejected as the context is configured
+     */
+    private static void readFields(
+            JsonParser parser, DeserializationContext context, StdDeserializer<?> deserializer, FieldReader fields)
+            throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = parser.nextToken();
+        }
+        for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            String name = parser.currentName();
+            parser.nextToken();
+            if (!fields.read(name)) {
+                context.handleUnknownProperty(parser, deserializer, deserializer.handledType(), name);
+            }
+        }
+        if (token != JsonToken.END_OBJECT) {
+            context.handleUnexpectedToken(deserializer.handledType(), parser);
+        }
+    }
+
+    private static String readString(JsonParser parser, DeserializationContext context) throws IOException {
+        return switch (parser.currentToken()) {
+            case VALUE_STRING -> parser.getText();
+            case VALUE_NULL -> null;
+            default -> context.readValue(parser, String.class);
+        };
+    }
+
+    private static Integer readInteger(JsonParser parser, DeserializationContext context) throws IOException {
+        return switch (parser.currentToken()) {
+            case VALUE_NUMBER_INT -> parser.getIntValue();
+            case VALUE_NULL -> null;
+            default -> context.readValue(parser, Integer.class);
+        };
+    }
+
+    private static UUID readUuid(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (parser.currentToken() == JsonToken.VALUE_STRING && parser.getTextLength() == 36) {
+            try {
+                return UUID.fromString(parser.getText());
+            } catch (IllegalArgumentException e) {
+                // fall through to Jackson's own parsing and error reporting
+            }
+        }
+        return context.readValue(parser, UUID.class);
+    }
+
+    private static void writeInteger(JsonGenerator generator, Integer value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value.intValue());
+        }
+    }
+
+    /**
+     * Mirrors Jackson's UUIDSerializer: binary for formats such as Smile that support it natively, text otherwise
+     */
+    private static void writeUuid(JsonGenerator generator, UUID id) throws IOException {
+        if (id == null) {
+            generator.writeNull();
+        } else if (generator.canWriteBinaryNatively() && !(generator instanceof TokenBuffer)) {
+            byte[] bytes = new byte[16];
+            long most = id.getMostSignificantBits();
+            long least = id.getLeastSignificantBits();
+            for (int i = 0; i < 8; i++) {
+                bytes[i] = (byte) (most >>> (56 - 8 * i));
+                bytes[8 + i] = (byte) (least >>> (56 - 8 * i));
+            }
+            generator.writeBinary(bytes);
+        } else {
+            generator.writeString(id.toString());
+        }
+    }
+}
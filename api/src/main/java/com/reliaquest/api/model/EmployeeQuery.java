@@ -0,0 +1,22 @@
+package com.reliaquest.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Multi-attribute employee filter; null fields are not constrained and ranges are inclusive
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeQuery {
+    private String title;
+    private Integer minAge;
+    private Integer maxAge;
+    private Integer minSalary;
+    private Integer maxSalary;
+    private String emailDomain;
+}
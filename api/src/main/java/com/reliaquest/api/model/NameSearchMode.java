@@ -0,0 +1,15 @@
+package com.reliaquest.api.model;
+
+/**
+ * Matching strategy for the ranked name search endpoint
+ */
+public enum NameSearchMode {
+    /**
+     * Autocomplete: the full name or one of its words starts with the query
+     */
+    PREFIX,
+    /**
+     * Typo-tolerant: every query word is within a small edit distance of a word of the name
+     */
+    FUZZY
+}
@@ -0,0 +1,280 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.EmployeeQuery;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Secondary indexes over a roster for multi-attribute queries: hash indexes from case-folded title and email domain
+ * to rows, and age and salary columns sorted with their rows for range lookups.
+ * Each query evaluates its most selective predicate first and intersects the rest as bitmaps, switching to direct
+ * column checks once the candidate set is small.
+ */
+@Slf4j
+public final class AttributeIndex {
+
+    /**
+     * Below one candidate in this many rows, checking columns per candidate beats building another bitmap
+     */
+    private static final int ROW_CHECK_RATIO = 64;
+
+    private final EmployeeRoster roster;
+    private final Map<String, int[]> rowsByTitle;
+    private final Map<String, int[]> rowsByEmailDomain;
+    private final SortedColumn ages;
+    private final SortedColumn salaries;
+
+    private AttributeIndex(
+            EmployeeRoster roster,
+            Map<String, int[]> rowsByTitle,
+            Map<String, int[]> rowsByEmailDomain,
+            SortedColumn ages,
+            SortedColumn salaries) {
+        this.roster = roster;
+        this.rowsByTitle = rowsByTitle;
+        this.rowsByEmailDomain = rowsByEmailDomain;
+        this.ages = ages;
+        this.salaries = salaries;
+    }
+
+    static AttributeIndex build(EmployeeRoster roster) {
+        Map<String, BitSet> titles = new HashMap<>();
+        Map<String, BitSet> emailDomains = new HashMap<>();
+        int[] ageColumn = new int[roster.size()];
+        int[] salaryColumn = new int[roster.size()];
+        for (int row = 0; row < roster.size(); row++) {
+            String title = roster.titleAt(row);
+            if (title != null) {
+                titles.computeIfAbsent(CaseFolding.fold(title), ignored -> new BitSet()).set(row);
+            }
+            String emailDomain = foldDomain(roster.emailDomainAt(row));
+            if (emailDomain != null) {
+                emailDomains.computeIfAbsent(emailDomain, ignored -> new BitSet()).set(row);
+            }
+            ageColumn[row] = roster.ageAt(row);
+            salaryColumn[row] = roster.salaryAt(row);
+        }
+        return new AttributeIndex(
+                roster,
+                toRows(titles),
+                toRows(emailDomains),
+                SortedColumn.of(ageColumn),
+                SortedColumn.of(salaryColumn));
+    }
+
+    /**
+     * Rows matching every predicate of the query, in roster order
+     */
+    public int[] matchingRows(EmployeeQuery query) {
+        List<Predicate> predicates = new ArrayList<>(4);
+        if (query.getTitle() != null) {
+            predicates.add(new PostingsPredicate(
+                    "title", rowsByTitle.getOrDefault(CaseFolding.fold(query.getTitle().trim()), new int[0])));
+        }
+        if (query.getEmailDomain() != null) {
+            String domain = CaseFolding.fold(query.getEmailDomain().trim());
+            predicates.add(new PostingsPredicate(
+                    "emailDomain",
+                    rowsByEmailDomain.getOrDefault(domain.startsWith("@") ? domain.substring(1) : domain, new int[0])));
+        }
+        if (query.getMinAge() != null || query.getMaxAge() != null) {
+            predicates.add(new RangePredicate("age", ages, query.getMinAge(), query.getMaxAge()));
+        }
+        if (query.getMinSalary() != null || query.getMaxSalary() != null) {
+            predicates.add(new RangePredicate("salary", salaries, query.getMinSalary(), query.getMaxSalary()));
+        }
+        if (predicates.isEmpty()) {
+            int[] rows = new int[roster.size()];
+            Arrays.setAll(rows, row -> row);
+            return rows;
+        }
+
+        predicates.sort(Comparator.comparingInt(Predicate::estimate));
+        log.debug("Query plan: {}", predicates);
+
+        BitSet candidates = predicates.get(0).toBitSet();
+        for (Predicate predicate : predicates.subList(1, predicates.size())) {
+            if (candidates.isEmpty()) {
+                break;
+            }
+            if (candidates.cardinality() <= roster.size() / ROW_CHECK_RATIO) {
+                for (int row = candidates.nextSetBit(0); row >= 0; row = candidates.nextSetBit(row + 1)) {
+                    if (!predicate.test(row)) {
+                        candidates.clear(row);
+                    }
+                }
+            } else {
+                candidates.and(predicate.toBitSet());
+            }
+        }
+        return candidates.stream().toArray();
+    }
+
+    private static String foldDomain(String domain) {
+        return domain != null && !domain.isEmpty() ? CaseFolding.fold(domain) : null;
+    }
+
+    private static Map<String, int[]> toRows(Map<String, BitSet> bitSets) {
+        Map<String, int[]> rows = new HashMap<>(bitSets.size() * 2);
+        bitSets.forEach((key, bitSet) -> rows.put(key, bitSet.stream().toArray()));
+        return rows;
+    }
+
+    private abstract static class Predicate {
+
+        private final String attribute;
+
+        Predicate(String attribute) {
+            this.attribute = attribute;
+        }
+
+        /**
+         * Exact number of rows this predicate matches on its own
+         */
+        abstract int estimate();
+
+        abstract BitSet toBitSet();
+
+        abstract boolean test(int row);
+
+        @Override
+        public String toString() {
+            return attribute + "(" + estimate() + " rows)";
+        }
+    }
+
+    /**
+     * Equality predicate backed by the ascending rows of a hash index entry
+     */
+    private static final class PostingsPredicate extends Predicate {
+
+        private final int[] rows;
+
+        PostingsPredicate(String attribute, int[] rows) {
+            super(attribute);
+            this.rows = rows;
+        }
+
+        @Override
+        int estimate() {
+            return rows.length;
+        }
+
+        @Override
+        BitSet toBitSet() {
+            BitSet bitSet = new BitSet();
+            for (int row : rows) {
+                bitSet.set(row);
+            }
+            return bitSet;
+        }
+
+        @Override
+        boolean test(int row) {
+            return Arrays.binarySearch(rows, row) >= 0;
+        }
+    }
+
+    /**
+     * Inclusive range predicate resolved to a slice of a sorted column
+     */
+    private static final class RangePredicate extends Predicate {
+
+        private final SortedColumn column;
+        private final int min;
+        private final int max;
+        private final int from;
+        private final int to;
+
+        RangePredicate(String attribute, SortedColumn column, Integer min, Integer max) {
+            super(attribute);
+            this.column = column;
+            // NO_VALUE is Integer.MIN_VALUE, so a missing value never falls inside a range
+            this.min = min != null ? Math.max(min, EmployeeRoster.NO_VALUE + 1) : EmployeeRoster.NO_VALUE + 1;
+            this.max = max != null ? max : Integer.MAX_VALUE;
+            this.from = column.lowerBound(this.min);
+            this.to = this.min > this.max ? from : column.upperBound(this.max);
+        }
+
+        @Override
+        int estimate() {
+            return Math.max(0, to - from);
+        }
+
+        @Override
+        BitSet toBitSet() {
+            BitSet bitSet = new BitSet();
+            for (int index = from; index < to; index++) {
+                bitSet.set(column.rows[index]);
+            }
+            return bitSet;
+        }
+
+        @Override
+        boolean test(int row) {
+            int value = column.values[row];
+            return value >= min && value <= max;
+        }
+    }
+
+    /**
+     * A primitive column in roster order, plus its values sorted ascending with the matching rows
+     */
+    private static final class SortedColumn {
+
+        private final int[] values;
+        private final int[] sortedValues;
+        private final int[] rows;
+
+        private SortedColumn(int[] values, int[] sortedValues, int[] rows) {
+            this.values = values;
+            this.sortedValues = sortedValues;
+            this.rows = rows;
+        }
+
+        static SortedColumn of(int[] values) {
+            long[] packed = new long[values.length];
+            for (int row = 0; row < values.length; row++) {
+                packed[row] = ((long) values[row] << 32) | row;
+            }
+            Arrays.sort(packed);
+            int[] sortedValues = new int[values.length];
+            int[] rows = new int[values.length];
+            for (int index = 0; index < packed.length; index++) {
+                sortedValues[index] = (int) (packed[index] >> 32);
+                rows[index] = (int) packed[index];
+            }
+            return new SortedColumn(values, sortedValues, rows);
+        }
+
+        /**
+         * First index whose value is at least {@code value}
+         */
+        int lowerBound(int value) {
+            int low = 0;
+            int high = sortedValues.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (sortedValues[middle] < value) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * First index whose value is greater than {@code value}
+         */
+        int upperBound(int value) {
+            return value == Integer.MAX_VALUE ? sortedValues.length : lowerBound(value + 1);
+        }
+    }
+}
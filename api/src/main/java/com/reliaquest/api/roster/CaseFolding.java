@@ -0,0 +1,31 @@
+package com.reliaquest.api.roster;
+
+/**
+ * Locale-independent simple case folding used for case-insensitive name matching.
+ * Each code point is upper-cased then lower-cased, so variants such as the Turkish dotted and dotless I, the long s
+ * or the final sigma all fold to the same character whatever {@code Locale.getDefault()} is.
+ */
+final class CaseFolding {
+
+    private CaseFolding() {}
+
+    /**
+     * Folds the value, returning the same instance when it is already folded
+     */
+    static String fold(String value) {
+        StringBuilder folded = null;
+        int index = 0;
+        while (index < value.length()) {
+            int codePoint = value.codePointAt(index);
+            int foldedCodePoint = Character.toLowerCase(Character.toUpperCase(codePoint));
+            if (folded == null && foldedCodePoint != codePoint) {
+                folded = new StringBuilder(value.length()).append(value, 0, index);
+            }
+            if (folded != null) {
+                folded.appendCodePoint(foldedCodePoint);
+            }
+            index += Character.charCount(codePoint);
+        }
+        return folded == null ? value : folded.toString();
+    }
+}
@@ -0,0 +1,101 @@
+package com.reliaquest.api.roster;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Email column of a roster: local parts packed into one byte array and domains dictionary-encoded, so a row
+ * costs an offset, a domain code and its local-part bytes instead of a String per email.
+ */
+final class EmailColumn {
+
+    private static final int NO_DOMAIN = -1;
+
+    private final PackedStrings localParts;
+    private final int[] domainCodes;
+    private final String[] domainDictionary;
+
+    private EmailColumn(PackedStrings localParts, int[] domainCodes, String[] domainDictionary) {
+        this.localParts = localParts;
+        this.domainCodes = domainCodes;
+        this.domainDictionary = domainDictionary;
+    }
+
+    String emailAt(int row) {
+        String localPart = localParts.get(row);
+        int code = domainCodes[row];
+        return localPart == null || code == NO_DOMAIN ? localPart : localPart + '@' + domainDictionary[code];
+    }
+
+    /**
+     * Text after the last '@' as received, or null when the email is missing or has no '@'
+     */
+    String domainAt(int row) {
+        int code = domainCodes[row];
+        return code == NO_DOMAIN ? null : domainDictionary[code];
+    }
+
+    /**
+     * Copy with the email appended as the last row, adding its domain to the dictionary if it is new
+     */
+    EmailColumn withAppended(String email) {
+        int at = email != null ? email.lastIndexOf('@') : -1;
+        String[] dictionary = domainDictionary;
+        int code = NO_DOMAIN;
+        if (at >= 0) {
+            String domain = email.substring(at + 1);
+            code = Arrays.asList(domainDictionary).indexOf(domain);
+            if (code < 0) {
+                dictionary = Arrays.copyOf(domainDictionary, domainDictionary.length + 1);
+                dictionary[domainDictionary.length] = domain;
+                code = domainDictionary.length;
+            }
+        }
+        int[] codes = Arrays.copyOf(domainCodes, domainCodes.length + 1);
+        codes[domainCodes.length] = code;
+        return new EmailColumn(localParts.withAppended(at >= 0 ? email.substring(0, at) : email), codes, dictionary);
+    }
+
+    /**
+     * Copy without the row; its domain stays in the dictionary even if no other row uses it
+     */
+    EmailColumn withoutRow(int row) {
+        int[] codes = new int[domainCodes.length - 1];
+        System.arraycopy(domainCodes, 0, codes, 0, row);
+        System.arraycopy(domainCodes, row + 1, codes, row, codes.length - row);
+        return new EmailColumn(localParts.withoutRow(row), codes, domainDictionary);
+    }
+
+    static final class Builder {
+
+        private final PackedStrings.Builder localParts;
+        private final int[] domainCodes;
+        private final Map<String, Integer> domainCodesByDomain = new HashMap<>();
+        private final List<String> domainDictionary = new ArrayList<>();
+        private int row;
+
+        Builder(int size) {
+            this.localParts = new PackedStrings.Builder(size);
+            this.domainCodes = new int[size];
+        }
+
+        Builder add(String email) {
+            int at = email != null ? email.lastIndexOf('@') : -1;
+            localParts.add(at >= 0 ? email.substring(0, at) : email);
+            domainCodes[row++] = at >= 0
+                    ? domainCodesByDomain.computeIfAbsent(email.substring(at + 1), domain -> {
+                        domainDictionary.add(domain);
+                        return domainDictionary.size() - 1;
+                    })
+                    : NO_DOMAIN;
+            return this;
+        }
+
+        EmailColumn build() {
+            return new EmailColumn(localParts.build(), domainCodes, domainDictionary.toArray(new String[0]));
+        }
+    }
+}
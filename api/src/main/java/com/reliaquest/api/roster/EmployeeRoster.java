@@ -0,0 +1,565 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.EmployeeDTO;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Immutable, column-oriented snapshot of the employee roster.
+ * Salaries and ages are kept as primitive arrays, ids as two long columns, titles dictionary-encoded and emails
+ * packed with dictionary-encoded domains, so aggregations and searches scan flat arrays. Display names are packed
+ * too; only their case-folded form, which searches scan, is kept as a String per row.
+ * EmployeeDTOs are only materialised for returned rows.
+ * Writes produce a new roster with {@link #withAdded} and {@link #withoutRow}, so readers holding this one never see
+ * a partial change.
+ */
+public final class EmployeeRoster {
+
+    /**
+     * Marker stored in the primitive columns when the upstream value was null
+     */
+    public static final int NO_VALUE = Integer.MIN_VALUE;
+
+    private static final int NO_TITLE = -1;
+
+    private final int size;
+    private final long[] idHi;
+    private final long[] idLo;
+    private final BitSet missingIds;
+    private final PackedStrings names;
+    private final String[] foldedNames;
+    private final int[] salaries;
+    private final int[] ages;
+    private final int[] titleCodes;
+    private final String[] titleDictionary;
+    private final EmailColumn emails;
+
+    private volatile NameSearchIndex nameSearchIndex;
+    private volatile AttributeIndex attributeIndex;
+
+    private EmployeeRoster(
+            int size,
+            long[] idHi,
+            long[] idLo,
+            BitSet missingIds,
+            PackedStrings names,
+            String[] foldedNames,
+            int[] salaries,
+            int[] ages,
+            int[] titleCodes,
+            String[] titleDictionary,
+            EmailColumn emails) {
+        this.size = size;
+        this.idHi = idHi;
+        this.idLo = idLo;
+        this.missingIds = missingIds;
+        this.names = names;
+        this.foldedNames = foldedNames;
+        this.salaries = salaries;
+        this.ages = ages;
+        this.titleCodes = titleCodes;
+        this.titleDictionary = titleDictionary;
+        this.emails = emails;
+    }
+
+    /**
+     * Builds the columnar representation from the employees returned by the upstream API
+     */
+    public static EmployeeRoster of(List<EmployeeDTO> employees) {
+        int size = employees.size();
+        long[] idHi = new long[size];
+        long[] idLo = new long[size];
+        BitSet missingIds = new BitSet();
+        PackedStrings.Builder names = new PackedStrings.Builder(size);
+        String[] foldedNames = new String[size];
+        int[] salaries = new int[size];
+        int[] ages = new int[size];
+        int[] titleCodes = new int[size];
+        EmailColumn.Builder emails = new EmailColumn.Builder(size);
+        Map<String, Integer> titleCodesByTitle = new HashMap<>();
+        List<String> titleDictionary = new ArrayList<>();
+
+        for (int row = 0; row < size; row++) {
+            EmployeeDTO employee = employees.get(row);
+            UUID id = employee.getId();
+            if (id != null) {
+                idHi[row] = id.getMostSignificantBits();
+                idLo[row] = id.getLeastSignificantBits();
+            } else {
+                missingIds.set(row);
+            }
+            names.add(employee.getName());
+            foldedNames[row] = employee.getName() != null ? CaseFolding.fold(employee.getName()) : null;
+            salaries[row] = employee.getSalary() != null ? employee.getSalary() : NO_VALUE;
+            ages[row] = employee.getAge() != null ? employee.getAge() : NO_VALUE;
+            titleCodes[row] = employee.getTitle() != null
+                    ? titleCodesByTitle.computeIfAbsent(employee.getTitle(), title -> {
+                        titleDictionary.add(title);
+                        return titleDictionary.size() - 1;
+                    })
+                    : NO_TITLE;
+            emails.add(employee.getEmail());
+        }
+
+        return new EmployeeRoster(
+                size,
+                idHi,
+                idLo,
+                missingIds,
+                names.build(),
+                foldedNames,
+                salaries,
+                ages,
+                titleCodes,
+                titleDictionary.toArray(new String[0]),
+                emails.build());
+    }
+
+    /**
+     * Copy with the employee appended as the last row. The columns are copied rather than rebuilt from DTOs; the
+     * copy's search and attribute indexes are built on first use, as for any roster.
+     */
+    public EmployeeRoster withAdded(EmployeeDTO employee) {
+        int row = size;
+        long[] addedIdHi = Arrays.copyOf(idHi, size + 1);
+        long[] addedIdLo = Arrays.copyOf(idLo, size + 1);
+        BitSet addedMissingIds = (BitSet) missingIds.clone();
+        UUID id = employee.getId();
+        if (id != null) {
+            addedIdHi[row] = id.getMostSignificantBits();
+            addedIdLo[row] = id.getLeastSignificantBits();
+        } else {
+            addedMissingIds.set(row);
+        }
+        String[] addedFoldedNames = Arrays.copyOf(foldedNames, size + 1);
+        addedFoldedNames[row] = employee.getName() != null ? CaseFolding.fold(employee.getName()) : null;
+        int[] addedSalaries = Arrays.copyOf(salaries, size + 1);
+        addedSalaries[row] = employee.getSalary() != null ? employee.getSalary() : NO_VALUE;
+        int[] addedAges = Arrays.copyOf(ages, size + 1);
+        addedAges[row] = employee.getAge() != null ? employee.getAge() : NO_VALUE;
+
+        String[] addedTitleDictionary = titleDictionary;
+        int titleCode = NO_TITLE;
+        if (employee.getTitle() != null) {
+            titleCode = Arrays.asList(titleDictionary).indexOf(employee.getTitle());
+            if (titleCode < 0) {
+                addedTitleDictionary = Arrays.copyOf(titleDictionary, titleDictionary.length + 1);
+                addedTitleDictionary[titleDictionary.length] = employee.getTitle();
+                titleCode = titleDictionary.length;
+            }
+        }
+        int[] addedTitleCodes = Arrays.copyOf(titleCodes, size + 1);
+        addedTitleCodes[row] = titleCode;
+
+        return new EmployeeRoster(
+                size + 1,
+                addedIdHi,
+                addedIdLo,
+                addedMissingIds,
+                names.withAppended(employee.getName()),
+                addedFoldedNames,
+                addedSalaries,
+                addedAges,
+                addedTitleCodes,
+                addedTitleDictionary,
+                emails.withAppended(employee.getEmail()));
+    }
+
+    /**
+     * Copy without the given row; later rows move up by one
+     */
+    public EmployeeRoster withoutRow(int row) {
+        return new EmployeeRoster(
+                size - 1,
+                without(idHi, row),
+                without(idLo, row),
+                PackedStrings.withoutBit(missingIds, row),
+                names.withoutRow(row),
+                without(foldedNames, row),
+                without(salaries, row),
+                without(ages, row),
+                without(titleCodes, row),
+                titleDictionary,
+                emails.withoutRow(row));
+    }
+
+    private static long[] without(long[] column, int row) {
+        long[] remaining = new long[column.length - 1];
+        System.arraycopy(column, 0, remaining, 0, row);
+        System.arraycopy(column, row + 1, remaining, row, remaining.length - row);
+        return remaining;
+    }
+
+    private static int[] without(int[] column, int row) {
+        int[] remaining = new int[column.length - 1];
+        System.arraycopy(column, 0, remaining, 0, row);
+        System.arraycopy(column, row + 1, remaining, row, remaining.length - row);
+        return remaining;
+    }
+
+    private static String[] without(String[] column, int row) {
+        String[] remaining = new String[column.length - 1];
+        System.arraycopy(column, 0, remaining, 0, row);
+        System.arraycopy(column, row + 1, remaining, row, remaining.length - row);
+        return remaining;
+    }
+
+    /**
+     * Writes the columns in the layout read back by {@link #readColumns(ByteBuffer)}.
+     * Folded names are not written; they are derived again on load.
+     */
+    void writeColumns(DataOutput out) throws IOException {
+        out.writeInt(size);
+        for (int row = 0; row < size; row++) {
+            out.writeLong(idHi[row]);
+        }
+        for (int row = 0; row < size; row++) {
+            out.writeLong(idLo[row]);
+        }
+        long[] missingIdWords = missingIds.toLongArray();
+        out.writeInt(missingIdWords.length);
+        for (long word : missingIdWords) {
+            out.writeLong(word);
+        }
+        for (int row = 0; row < size; row++) {
+            out.writeInt(salaries[row]);
+        }
+        for (int row = 0; row < size; row++) {
+            out.writeInt(ages[row]);
+        }
+        out.writeInt(titleDictionary.length);
+        for (String title : titleDictionary) {
+            writeString(out, title);
+        }
+        for (int row = 0; row < size; row++) {
+            out.writeInt(titleCodes[row]);
+        }
+        for (int row = 0; row < size; row++) {
+            writeString(out, names.get(row));
+        }
+        for (int row = 0; row < size; row++) {
+            writeString(out, emails.emailAt(row));
+        }
+    }
+
+    /**
+     * Reads columns written by {@link #writeColumns(DataOutput)}, advancing the buffer past them
+     */
+    static EmployeeRoster readColumns(ByteBuffer in) {
+        int size = in.getInt();
+        long[] idHi = readLongs(in, size);
+        long[] idLo = readLongs(in, size);
+        BitSet missingIds = BitSet.valueOf(readLongs(in, in.getInt()));
+        int[] salaries = readInts(in, size);
+        int[] ages = readInts(in, size);
+        String[] titleDictionary = new String[in.getInt()];
+        for (int code = 0; code < titleDictionary.length; code++) {
+            titleDictionary[code] = readString(in);
+        }
+        int[] titleCodes = readInts(in, size);
+        PackedStrings.Builder names = new PackedStrings.Builder(size);
+        String[] foldedNames = new String[size];
+        for (int row = 0; row < size; row++) {
+            String name = readString(in);
+            names.add(name);
+            foldedNames[row] = name != null ? CaseFolding.fold(name) : null;
+        }
+        EmailColumn.Builder emails = new EmailColumn.Builder(size);
+        for (int row = 0; row < size; row++) {
+            emails.add(readString(in));
+        }
+        return new EmployeeRoster(
+                size,
+                idHi,
+                idLo,
+                missingIds,
+                names.build(),
+                foldedNames,
+                salaries,
+                ages,
+                titleCodes,
+                titleDictionary,
+                emails.build());
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static long[] readLongs(ByteBuffer in, int count) {
+        long[] values = new long[count];
+        in.asLongBuffer().get(values);
+        in.position(in.position() + count * Long.BYTES);
+        return values;
+    }
+
+    private static int[] readInts(ByteBuffer in, int count) {
+        int[] values = new int[count];
+        in.asIntBuffer().get(values);
+        in.position(in.position() + count * Integer.BYTES);
+        return values;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String nameAt(int row) {
+        return names.get(row);
+    }
+
+    String foldedNameAt(int row) {
+        return foldedNames[row];
+    }
+
+    public int salaryAt(int row) {
+        return salaries[row];
+    }
+
+    public int ageAt(int row) {
+        return ages[row];
+    }
+
+    public String titleAt(int row) {
+        int code = titleCodes[row];
+        return code == NO_TITLE ? null : titleDictionary[code];
+    }
+
+    public String emailAt(int row) {
+        return emails.emailAt(row);
+    }
+
+    String emailDomainAt(int row) {
+        return emails.domainAt(row);
+    }
+
+    public UUID idAt(int row) {
+        return missingIds.get(row) ? null : new UUID(idHi[row], idLo[row]);
+    }
+
+    /**
+     * Prefix and fuzzy name index over this roster, built on first use and kept for the roster's lifetime
+     */
+    public NameSearchIndex nameSearchIndex() {
+        NameSearchIndex index = nameSearchIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = nameSearchIndex;
+                if (index == null) {
+                    index = NameSearchIndex.build(this);
+                    nameSearchIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Title, email domain, age and salary indexes over this roster, built on first use
+     */
+    public AttributeIndex attributeIndex() {
+        AttributeIndex index = attributeIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = attributeIndex;
+                if (index == null) {
+                    index = AttributeIndex.build(this);
+                    attributeIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Materialises a single row as an EmployeeDTO
+     */
+    public EmployeeDTO employeeAt(int row) {
+        return EmployeeDTO.builder()
+                .id(idAt(row))
+                .name(names.get(row))
+                .salary(salaries[row] == NO_VALUE ? null : salaries[row])
+                .age(ages[row] == NO_VALUE ? null : ages[row])
+                .title(titleAt(row))
+                .email(emails.emailAt(row))
+                .build();
+    }
+
+    /**
+     * Materialises every row, in roster order, as EmployeeDTOs
+     */
+    public List<EmployeeDTO> employees() {
+        List<EmployeeDTO> employees = new ArrayList<>(size);
+        for (int row = 0; row < size; row++) {
+            employees.add(employeeAt(row));
+        }
+        return employees;
+    }
+
+    /**
+     * Row of the employee with the given id, or -1 if there is none; a scan of the id columns
+     */
+    public int rowOf(UUID id) {
+        long hi = id.getMostSignificantBits();
+        long lo = id.getLeastSignificantBits();
+        for (int row = 0; row < size; row++) {
+            if (idHi[row] == hi && idLo[row] == lo && !missingIds.get(row)) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * First row whose display name equals the given one ignoring case, or -1 if there is none; the rule the mock
+     * API deletes by name with
+     */
+    public int rowOfNameIgnoreCase(String name) {
+        for (int row = 0; row < size; row++) {
+            String candidate = names.get(row);
+            if (candidate != null && candidate.equalsIgnoreCase(name)) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Materialises the given rows, in order, as EmployeeDTOs
+     */
+    public List<EmployeeDTO> employeesAt(int[] rows) {
+        List<EmployeeDTO> employees = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            employees.add(employeeAt(row));
+        }
+        return employees;
+    }
+
+    /**
+     * Highest salary in the roster, or {@link #NO_VALUE} when no row has a salary
+     */
+    public int maxSalary() {
+        return maxSalary(0, size);
+    }
+
+    /**
+     * Highest salary within rows {@code [from, to)}, or {@link #NO_VALUE} when none has a salary
+     */
+    public int maxSalary(int from, int to) {
+        int max = NO_VALUE;
+        for (int row = from; row < to; row++) {
+            if (salaries[row] > max) {
+                max = salaries[row];
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Rows of the {@code limit} highest salaries among named employees, highest first.
+     * Ties keep roster order, matching a stable descending sort.
+     */
+    public int[] topSalaryRows(int limit) {
+        return topSalaryRows(limit, 0, size);
+    }
+
+    /**
+     * Same as {@link #topSalaryRows(int)}, restricted to rows {@code [from, to)}
+     */
+    public int[] topSalaryRows(int limit, int from, int to) {
+        if (limit <= 0 || from >= to) {
+            return new int[0];
+        }
+        int[] top = new int[Math.min(limit, to - from)];
+        int count = 0;
+        for (int row = from; row < to; row++) {
+            if (salaries[row] == NO_VALUE || names.isMissing(row)) {
+                continue;
+            }
+            if (count == top.length && !ranksAbove(row, top[count - 1])) {
+                continue;
+            }
+            int position = count < top.length ? count++ : count - 1;
+            while (position > 0 && ranksAbove(row, top[position - 1])) {
+                top[position] = top[position - 1];
+                position--;
+            }
+            top[position] = row;
+        }
+        return Arrays.copyOf(top, count);
+    }
+
+    /**
+     * Merges two results of {@link #topSalaryRows(int, int, int)} into the overall top {@code limit}
+     */
+    public int[] mergeTopSalaryRows(int[] left, int[] right, int limit) {
+        int[] merged = new int[Math.min(limit, left.length + right.length)];
+        int l = 0;
+        int r = 0;
+        for (int i = 0; i < merged.length; i++) {
+            if (r == right.length || (l < left.length && ranksAbove(left[l], right[r]))) {
+                merged[i] = left[l++];
+            } else {
+                merged[i] = right[r++];
+            }
+        }
+        return merged;
+    }
+
+    private boolean ranksAbove(int row, int other) {
+        return salaries[row] > salaries[other] || (salaries[row] == salaries[other] && row < other);
+    }
+
+    /**
+     * Rows whose name contains the search string, ignoring case.
+     * The needle is folded once and compared against names folded when the roster was built, so the scan itself
+     * allocates nothing per row.
+     */
+    public int[] rowsWithNameContaining(String searchString) {
+        return rowsWithNameContaining(searchString, 0, size);
+    }
+
+    /**
+     * Same as {@link #rowsWithNameContaining(String)}, restricted to rows {@code [from, to)}
+     */
+    public int[] rowsWithNameContaining(String searchString, int from, int to) {
+        String needle = CaseFolding.fold(searchString);
+        int[] matches = new int[16];
+        int count = 0;
+        for (int row = from; row < to; row++) {
+            String name = foldedNames[row];
+            if (name != null && name.contains(needle)) {
+                if (count == matches.length) {
+                    matches = Arrays.copyOf(matches, count * 2);
+                }
+                matches[count++] = row;
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+}
@@ -0,0 +1,201 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.EmployeeDTO;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the columnar roster built from the latest upstream fetch.
+ * The roster is rebuilt once per refresh and shared by all aggregation and search requests until it expires.
+ * The last published roster is also kept past expiry and invalidation, for serving stale reads, see StaleRosterReads.
+ * Creates and deletes are applied to both by {@link #update}, which replaces them with changed copies. Changes
+ * are made under a lock shared with publishing and invalidation; readers take no lock.
+ */
+@Slf4j
+@Component
+public class EmployeeRosterCache {
+
+    private final Duration timeToLive;
+    private final Clock clock;
+    private final AtomicReference<CachedRoster> current = new AtomicReference<>();
+    private final AtomicReference<CachedRoster> lastGood = new AtomicReference<>();
+    private final AtomicLong writes = new AtomicLong();
+    private final AtomicLong publishes = new AtomicLong();
+    // held by every change to current and lastGood, and across refresh's check and publish
+    private final Object writeLock = new Object();
+    private volatile boolean readSincePublish;
+
+    public EmployeeRosterCache(@Value("${employee.roster.ttl:10s}") Duration timeToLive) {
+        this(timeToLive, Clock.systemUTC());
+    }
+
+    EmployeeRosterCache(Duration timeToLive, Clock clock) {
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the cached roster if it was published within the configured time-to-live
+     */
+    public Optional<EmployeeRoster> getIfFresh() {
+        Optional<EmployeeRoster> roster = peekIfFresh().map(FreshRoster::roster);
+        if (roster.isPresent() && !readSincePublish) {
+            readSincePublish = true;
+        }
+        return roster;
+    }
+
+    /**
+     * Like {@link #getIfFresh}, with the time the roster was built and without counting as a read, for internal
+     * consumers such as the snapshot task
+     */
+    public Optional<FreshRoster> peekIfFresh() {
+        CachedRoster cached = current.get();
+        if (cached == null || clock.instant().isAfter(cached.expiresAt())) {
+            return Optional.empty();
+        }
+        return Optional.of(new FreshRoster(cached.roster(), cached.builtAt()));
+    }
+
+    /**
+     * Whether the cached roster is within its time-to-live, without counting as a read
+     */
+    public boolean isFresh() {
+        CachedRoster cached = current.get();
+        return cached != null && !clock.instant().isAfter(cached.expiresAt());
+    }
+
+    /**
+     * Whether a reader has been handed the roster since it was last published, see RosterRefresher
+     */
+    public boolean wasReadSincePublish() {
+        return readSincePublish;
+    }
+
+    /**
+     * Builds a new roster from a fresh upstream fetch and publishes it to readers
+     */
+    public EmployeeRoster refresh(List<EmployeeDTO> employees) {
+        return refresh(employees, writes.get());
+    }
+
+    /**
+     * Like {@link #refresh(List)}, for a fetch started when {@link #writeCount()} was {@code writesBefore}.
+     * If a write was applied since, the fetch may predate it, so the roster is returned but not published.
+     */
+    public EmployeeRoster refresh(List<EmployeeDTO> employees, long writesBefore) {
+        EmployeeRoster roster = EmployeeRoster.of(employees);
+        synchronized (writeLock) {
+            if (writes.get() != writesBefore) {
+                log.debug("Not publishing roster with {} rows fetched across a write", roster.size());
+                return roster;
+            }
+            publish(roster);
+        }
+        log.debug("Rebuilt employee roster with {} rows", roster.size());
+        return roster;
+    }
+
+    /**
+     * Number of rosters published so far, which a refresh that raced a write does not add to
+     */
+    public long publishCount() {
+        return publishes.get();
+    }
+
+    /**
+     * Number of writes applied by {@link #update} so far
+     */
+    public long writeCount() {
+        return writes.get();
+    }
+
+    /**
+     * Applies a create or delete to the cached and last good rosters without refetching them.
+     * The change builds a new roster from the one it is given, which then replaces it, so readers see the roster
+     * either before or after the change. The time the roster was built and its expiry are kept.
+     * Writes, publishes and invalidation hold one lock, so they apply one at a time; readers never take it.
+     */
+    public void update(UnaryOperator<EmployeeRoster> change) {
+        synchronized (writeLock) {
+            writes.incrementAndGet();
+            CachedRoster before = current.get();
+            CachedRoster after = before != null ? before.withRoster(change.apply(before.roster())) : null;
+            current.set(after);
+
+            CachedRoster last = lastGood.get();
+            if (last == before) {
+                lastGood.set(after);
+            } else if (last != null) {
+                lastGood.set(last.withRoster(change.apply(last.roster())));
+            }
+        }
+    }
+
+    /**
+     * Publishes an already built roster as fresh
+     */
+    public EmployeeRoster publish(EmployeeRoster roster) {
+        Instant now = clock.instant();
+        return publish(new CachedRoster(roster, now, now.plus(timeToLive)));
+    }
+
+    /**
+     * Publishes a roster built at the given time and restored from a snapshot. It is fresh for a full time-to-live
+     * from now, so the first reads after a restart are served from it, but ages, for stale reads and health, from
+     * when it was built.
+     */
+    public EmployeeRoster restore(EmployeeRoster roster, Instant builtAt) {
+        return publish(new CachedRoster(roster, builtAt, clock.instant().plus(timeToLive)));
+    }
+
+    private EmployeeRoster publish(CachedRoster cached) {
+        synchronized (writeLock) {
+            publishes.incrementAndGet();
+            readSincePublish = false;
+            current.set(cached);
+            lastGood.set(cached);
+        }
+        return cached.roster();
+    }
+
+    /**
+     * The last published roster and how long ago it was published, however old, or empty if none was published
+     */
+    public Optional<StaleRoster> getLastGood() {
+        CachedRoster cached = lastGood.get();
+        if (cached == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new StaleRoster(cached.roster(), Duration.between(cached.builtAt(), clock.instant())));
+    }
+
+    /**
+     * Drops the cached roster so the next read fetches from upstream
+     */
+    public void invalidate() {
+        synchronized (writeLock) {
+            current.set(null);
+        }
+    }
+
+    private record CachedRoster(EmployeeRoster roster, Instant builtAt, Instant expiresAt) {
+
+        CachedRoster withRoster(EmployeeRoster changed) {
+            return new CachedRoster(changed, builtAt, expiresAt);
+        }
+    }
+
+    public record FreshRoster(EmployeeRoster roster, Instant builtAt) {}
+
+    public record StaleRoster(EmployeeRoster roster, Duration age) {}
+}
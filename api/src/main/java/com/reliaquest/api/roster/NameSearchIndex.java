@@ -0,0 +1,398 @@
+package com.reliaquest.api.roster;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prefix and typo-tolerant name lookup over a roster.
+ * Case-folded full names and their individual words are kept as sorted term arrays with row postings for prefix
+ * autocomplete. Typo-tolerant matching walks the sorted words as an implicit trie, sharing edit-distance rows
+ * between words with a common prefix and skipping every word under a prefix that is already too far from the query.
+ */
+public final class NameSearchIndex {
+
+    private final EmployeeRoster roster;
+    private final Terms fullNames;
+    private final Terms words;
+
+    private NameSearchIndex(EmployeeRoster roster, Terms fullNames, Terms words) {
+        this.roster = roster;
+        this.fullNames = fullNames;
+        this.words = words;
+    }
+
+    static NameSearchIndex build(EmployeeRoster roster) {
+        Map<String, RowList> rowsByFullName = new HashMap<>();
+        Map<String, RowList> rowsByWord = new HashMap<>();
+        for (int row = 0; row < roster.size(); row++) {
+            String name = roster.foldedNameAt(row);
+            if (name == null) {
+                continue;
+            }
+            String fullName = name.trim();
+            if (!fullName.isEmpty()) {
+                rowsByFullName.computeIfAbsent(fullName, ignored -> new RowList()).add(row);
+            }
+            for (String word : words(fullName)) {
+                rowsByWord.computeIfAbsent(word, ignored -> new RowList()).add(row);
+            }
+        }
+        return new NameSearchIndex(roster, Terms.of(rowsByFullName), Terms.of(rowsByWord));
+    }
+
+    /**
+     * Rows whose full name, or any word of it, starts with the query, ignoring case.
+     * Full-name matches rank before word matches and each group is in alphabetical order, so the scan stops as soon
+     * as {@code limit} rows are collected.
+     */
+    public int[] prefixMatches(String query, int limit) {
+        String prefix = CaseFolding.fold(query.trim());
+        if (prefix.isEmpty() || limit <= 0) {
+            return new int[0];
+        }
+        int[] rows = new int[limit];
+        int count = collectPrefix(fullNames, prefix, rows, 0);
+        count = collectPrefix(words, prefix, rows, count);
+        return Arrays.copyOf(rows, count);
+    }
+
+    /**
+     * Rows where every word of the query is within a small edit distance of some word of the name.
+     * The allowed distance grows with the word length (0 up to 2 letters, 1 up to 5, otherwise 2) and counts an
+     * adjacent transposition as one edit. Results are ranked by total distance, ties keep roster order.
+     */
+    public int[] fuzzyMatches(String query, int limit) {
+        String[] queryWords = words(CaseFolding.fold(query));
+        if (queryWords.length == 0 || limit <= 0) {
+            return new int[0];
+        }
+        // Drive the scan from the query word whose matching terms cover the fewest rows
+        List<TermMatch> driverMatches = null;
+        int driverWord = -1;
+        long driverRows = Long.MAX_VALUE;
+        for (int word = 0; word < queryWords.length; word++) {
+            List<TermMatch> matches = new ArrayList<>();
+            words.searchWithinEdits(
+                    queryWords[word],
+                    maxEditsFor(queryWords[word].length()),
+                    (term, distance) -> matches.add(new TermMatch(term, distance)));
+            long rows = 0;
+            for (TermMatch match : matches) {
+                rows += words.postings[match.term()].length;
+            }
+            if (rows < driverRows) {
+                driverMatches = matches;
+                driverWord = word;
+                driverRows = rows;
+            }
+        }
+        if (driverRows == 0) {
+            return new int[0];
+        }
+        driverMatches.sort(Comparator.comparingInt(TermMatch::distance));
+
+        TopRows top = new TopRows(limit);
+        for (TermMatch match : driverMatches) {
+            for (int row : words.postings[match.term()]) {
+                if (top.isFull() && (((long) match.distance() << 32) | row) >= top.worst()) {
+                    break;
+                }
+                int score = score(queryWords, driverWord, match.distance(), roster.foldedNameAt(row));
+                if (score >= 0) {
+                    top.offer(((long) score << 32) | row);
+                }
+            }
+        }
+        return top.rows();
+    }
+
+    static int maxEditsFor(int wordLength) {
+        return wordLength <= 2 ? 0 : wordLength <= 5 ? 1 : 2;
+    }
+
+    private int collectPrefix(Terms terms, String prefix, int[] rows, int count) {
+        int collected = count;
+        for (int term = terms.lowerBound(prefix);
+                term < terms.terms.length && terms.terms[term].startsWith(prefix) && collected < rows.length;
+                term++) {
+            for (int row : terms.postings[term]) {
+                if (collected == rows.length) {
+                    break;
+                }
+                if (!contains(rows, collected, row)) {
+                    rows[collected++] = row;
+                }
+            }
+        }
+        return collected;
+    }
+
+    /**
+     * Total distance of the query words to the name, or -1 when a word is out of range or the driver word matches
+     * another word of the name more closely (that row is scored under the closer term instead)
+     */
+    private static int score(String[] queryWords, int driverWord, int driverDistance, String name) {
+        String[] nameWords = words(name);
+        int score = 0;
+        for (int word = 0; word < queryWords.length; word++) {
+            int maxEdits = maxEditsFor(queryWords[word].length());
+            int best = maxEdits + 1;
+            for (String nameWord : nameWords) {
+                best = Math.min(best, distance(queryWords[word], nameWord, maxEdits));
+            }
+            if (best > maxEdits || (word == driverWord && best < driverDistance)) {
+                return -1;
+            }
+            score += best;
+        }
+        return score;
+    }
+
+    private static boolean contains(int[] rows, int count, int row) {
+        for (int i = 0; i < count; i++) {
+            if (rows[i] == row) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Splits on whitespace without going through a regular expression
+     */
+    private static String[] words(String name) {
+        List<String> words = new ArrayList<>(4);
+        int start = -1;
+        for (int index = 0; index <= name.length(); index++) {
+            boolean boundary = index == name.length() || Character.isWhitespace(name.charAt(index));
+            if (boundary && start >= 0) {
+                words.add(name.substring(start, index));
+                start = -1;
+            } else if (!boundary && start < 0) {
+                start = index;
+            }
+        }
+        return words.toArray(new String[0]);
+    }
+
+    /**
+     * Edit distance counting insertions, deletions, substitutions and adjacent transpositions (optimal string
+     * alignment), giving up with {@code limit + 1} as soon as the distance is known to exceed {@code limit}
+     */
+    static int distance(String left, String right, int limit) {
+        if (Math.abs(left.length() - right.length()) > limit) {
+            return limit + 1;
+        }
+        int[] beforePrevious = new int[right.length() + 1];
+        int[] previous = new int[right.length() + 1];
+        int[] current = new int[right.length() + 1];
+        for (int j = 0; j <= right.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= left.length(); i++) {
+            current[0] = i;
+            int rowMinimum = i;
+            char leftChar = left.charAt(i - 1);
+            for (int j = 1; j <= right.length(); j++) {
+                char rightChar = right.charAt(j - 1);
+                int cost = leftChar == rightChar ? 0 : 1;
+                int value = Math.min(previous[j - 1] + cost, Math.min(previous[j], current[j - 1]) + 1);
+                if (i > 1 && j > 1 && leftChar == right.charAt(j - 2) && left.charAt(i - 2) == rightChar) {
+                    value = Math.min(value, beforePrevious[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMinimum = Math.min(rowMinimum, value);
+            }
+            // Row minima never decrease, so the final distance is at least this row's minimum
+            if (rowMinimum > limit) {
+                return limit + 1;
+            }
+            int[] recycled = beforePrevious;
+            beforePrevious = previous;
+            previous = current;
+            current = recycled;
+        }
+        return Math.min(previous[right.length()], limit + 1);
+    }
+
+    /**
+     * Sorted terms with the ascending rows containing each term
+     */
+    private static final class Terms {
+
+        private final String[] terms;
+        private final int[][] postings;
+        private final int maxLength;
+
+        private Terms(String[] terms, int[][] postings) {
+            this.terms = terms;
+            this.postings = postings;
+            int longest = 0;
+            for (String term : terms) {
+                longest = Math.max(longest, term.length());
+            }
+            this.maxLength = longest;
+        }
+
+        static Terms of(Map<String, RowList> rowsByTerm) {
+            String[] terms = rowsByTerm.keySet().toArray(new String[0]);
+            Arrays.parallelSort(terms);
+            int[][] postings = new int[terms.length][];
+            for (int index = 0; index < terms.length; index++) {
+                postings[index] = rowsByTerm.get(terms[index]).toArray();
+            }
+            return new Terms(terms, postings);
+        }
+
+        int lowerBound(String prefix) {
+            int index = Arrays.binarySearch(terms, prefix);
+            return index >= 0 ? index : -index - 1;
+        }
+
+        /**
+         * Visits every term within {@code maxEdits} of the query, using the same distance as
+         * {@link NameSearchIndex#distance(String, String, int)}. Row {@code i} of the table holds the distances between
+         * the first {@code i} characters of the current term and each prefix of the query, so rows are reused for the
+         * prefix a term shares with the previous one.
+         */
+        void searchWithinEdits(String query, int maxEdits, TermVisitor visitor) {
+            int[][] rows = new int[maxLength + 1][query.length() + 1];
+            for (int j = 0; j <= query.length(); j++) {
+                rows[0][j] = j;
+            }
+            String previous = "";
+            int validDepth = 0;
+            int term = 0;
+            while (term < terms.length) {
+                String current = terms[term];
+                int depth = Math.min(validDepth, commonPrefixLength(previous, current));
+                int pruneDepth = -1;
+                while (depth < current.length()) {
+                    depth++;
+                    if (fillRow(rows, depth, current, query) > maxEdits) {
+                        pruneDepth = depth;
+                        break;
+                    }
+                }
+                previous = current;
+                if (pruneDepth >= 0) {
+                    // No term starting with these characters can come back within range
+                    validDepth = pruneDepth - 1;
+                    term = lowerBound(current.substring(0, pruneDepth) + Character.MAX_VALUE);
+                    continue;
+                }
+                validDepth = depth;
+                int distance = rows[depth][query.length()];
+                if (distance <= maxEdits) {
+                    visitor.accept(term, distance);
+                }
+                term++;
+            }
+        }
+
+        private static int fillRow(int[][] rows, int depth, String term, String query) {
+            int[] row = rows[depth];
+            int[] above = rows[depth - 1];
+            char termChar = term.charAt(depth - 1);
+            row[0] = depth;
+            int rowMinimum = depth;
+            for (int j = 1; j <= query.length(); j++) {
+                char queryChar = query.charAt(j - 1);
+                int substitution = above[j - 1] + (termChar == queryChar ? 0 : 1);
+                int value = Math.min(substitution, Math.min(above[j], row[j - 1]) + 1);
+                if (depth > 1 && j > 1 && termChar == query.charAt(j - 2) && term.charAt(depth - 2) == queryChar) {
+                    value = Math.min(value, rows[depth - 2][j - 2] + 1);
+                }
+                row[j] = value;
+                rowMinimum = Math.min(rowMinimum, value);
+            }
+            return rowMinimum;
+        }
+
+        private static int commonPrefixLength(String left, String right) {
+            int length = Math.min(left.length(), right.length());
+            int common = 0;
+            while (common < length && left.charAt(common) == right.charAt(common)) {
+                common++;
+            }
+            return common;
+        }
+    }
+
+    private static final class RowList {
+
+        private int[] rows = new int[1];
+        private int size;
+
+        void add(int row) {
+            if (size > 0 && rows[size - 1] == row) {
+                return;
+            }
+            if (size == rows.length) {
+                rows = Arrays.copyOf(rows, size * 2);
+            }
+            rows[size++] = row;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(rows, size);
+        }
+    }
+
+    /**
+     * Keeps the {@code limit} smallest keys seen; the row is stored in the low 32 bits of each key
+     */
+    private static final class TopRows {
+
+        private final long[] keys;
+        private int count;
+
+        TopRows(int limit) {
+            this.keys = new long[limit];
+        }
+
+        void offer(long key) {
+            if (count == keys.length && key >= keys[count - 1]) {
+                return;
+            }
+            if (Arrays.binarySearch(keys, 0, count, key) >= 0) {
+                return;
+            }
+            int position = count < keys.length ? count++ : count - 1;
+            while (position > 0 && key < keys[position - 1]) {
+                keys[position] = keys[position - 1];
+                position--;
+            }
+            keys[position] = key;
+        }
+
+        boolean isFull() {
+            return count == keys.length;
+        }
+
+        long worst() {
+            return keys[count - 1];
+        }
+
+        int[] rows() {
+            int[] rows = new int[count];
+            for (int i = 0; i < count; i++) {
+                rows[i] = (int) keys[i];
+            }
+            return rows;
+        }
+    }
+
+    private record TermMatch(int term, int distance) {}
+
+    @FunctionalInterface
+    private interface TermVisitor {
+        void accept(int term, int distance);
+    }
+}
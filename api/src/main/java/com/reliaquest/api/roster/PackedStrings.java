@@ -0,0 +1,109 @@
+package com.reliaquest.api.roster;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Column of strings packed into one UTF-8 byte array with an offset per row, instead of a String object each.
+ * Values are decoded on access, so this suits columns that are read only when rows are materialised.
+ * Instances are immutable; {@link #withAppended} and {@link #withoutRow} return copies.
+ */
+final class PackedStrings {
+
+    private final BitSet missing;
+    private final byte[] bytes;
+    private final int[] offsets;
+
+    private PackedStrings(BitSet missing, byte[] bytes, int[] offsets) {
+        this.missing = missing;
+        this.bytes = bytes;
+        this.offsets = offsets;
+    }
+
+    String get(int row) {
+        if (missing.get(row)) {
+            return null;
+        }
+        return new String(bytes, offsets[row], offsets[row + 1] - offsets[row], StandardCharsets.UTF_8);
+    }
+
+    boolean isMissing(int row) {
+        return missing.get(row);
+    }
+
+    /**
+     * Copy with the value appended as the last row
+     */
+    PackedStrings withAppended(String value) {
+        int size = offsets.length - 1;
+        byte[] encoded = value != null ? value.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        byte[] appendedBytes = Arrays.copyOf(bytes, bytes.length + encoded.length);
+        System.arraycopy(encoded, 0, appendedBytes, bytes.length, encoded.length);
+        int[] appendedOffsets = Arrays.copyOf(offsets, size + 2);
+        appendedOffsets[size + 1] = appendedBytes.length;
+        BitSet appendedMissing = (BitSet) missing.clone();
+        if (value == null) {
+            appendedMissing.set(size);
+        }
+        return new PackedStrings(appendedMissing, appendedBytes, appendedOffsets);
+    }
+
+    /**
+     * Copy without the row; later rows move up by one
+     */
+    PackedStrings withoutRow(int row) {
+        int size = offsets.length - 1;
+        int start = offsets[row];
+        int end = offsets[row + 1];
+        byte[] remainingBytes = new byte[bytes.length - (end - start)];
+        System.arraycopy(bytes, 0, remainingBytes, 0, start);
+        System.arraycopy(bytes, end, remainingBytes, start, bytes.length - end);
+        int[] remainingOffsets = new int[size];
+        System.arraycopy(offsets, 0, remainingOffsets, 0, row + 1);
+        for (int later = row + 1; later < size; later++) {
+            remainingOffsets[later] = offsets[later + 1] - (end - start);
+        }
+        return new PackedStrings(withoutBit(missing, row), remainingBytes, remainingOffsets);
+    }
+
+    /**
+     * Copy of the bits with the given bit removed and every higher bit moved down by one
+     */
+    static BitSet withoutBit(BitSet bits, int index) {
+        BitSet result = bits.get(0, index);
+        BitSet higher = bits.get(index + 1, Math.max(index + 1, bits.length()));
+        for (int bit = higher.nextSetBit(0); bit >= 0; bit = higher.nextSetBit(bit + 1)) {
+            result.set(index + bit);
+        }
+        return result;
+    }
+
+    static final class Builder {
+
+        private final BitSet missing = new BitSet();
+        private final ByteArrayOutputStream bytes;
+        private final int[] offsets;
+        private int row;
+
+        Builder(int size) {
+            this.bytes = new ByteArrayOutputStream(size * 16);
+            this.offsets = new int[size + 1];
+        }
+
+        Builder add(String value) {
+            if (value == null) {
+                missing.set(row);
+            } else {
+                bytes.writeBytes(value.getBytes(StandardCharsets.UTF_8));
+            }
+            offsets[++row] = bytes.size();
+            return this;
+        }
+
+        PackedStrings build() {
+            return new PackedStrings(missing, bytes.toByteArray(), offsets);
+        }
+    }
+}
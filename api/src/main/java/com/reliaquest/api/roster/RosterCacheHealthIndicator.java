@@ -0,0 +1,33 @@
+package com.reliaquest.api.roster;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports the roster cache as UP while it holds a roster within its time-to-live and as COLD otherwise, when the
+ * next roster read goes upstream. Part of the readiness group, where COLD still answers 200, so a cold cache is
+ * visible without taking the instance out of service; RosterRefresher bounds how long startup waits for it.
+ */
+@Component
+public class RosterCacheHealthIndicator implements HealthIndicator {
+
+    static final Status COLD = new Status("COLD", "The next roster read fetches from the employee API");
+
+    private final EmployeeRosterCache rosterCache;
+
+    public RosterCacheHealthIndicator(EmployeeRosterCache rosterCache) {
+        this.rosterCache = rosterCache;
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder health = rosterCache.isFresh() ? Health.up() : Health.status(COLD);
+        rosterCache.getLastGood().ifPresent(last -> {
+            health.withDetail("employees", last.roster().size());
+            health.withDetail("age", last.age().toString());
+        });
+        return health.build();
+    }
+}
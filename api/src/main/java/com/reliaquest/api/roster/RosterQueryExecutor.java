@@ -0,0 +1,124 @@
+package com.reliaquest.api.roster;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs roster scans sequentially for small rosters and splits them across a dedicated ForkJoinPool once the roster
+ * reaches the configured threshold, merging the per-chunk partial results.
+ */
+@Slf4j
+@Component
+public class RosterQueryExecutor implements DisposableBean {
+
+    private final int parallelThreshold;
+    private final int chunkSize;
+    private final ForkJoinPool pool;
+
+    public RosterQueryExecutor(
+            @Value("${employee.roster.parallel.threshold:100000}") int parallelThreshold,
+            @Value("${employee.roster.parallel.chunk-size:25000}") int chunkSize,
+            @Value("${employee.roster.parallel.parallelism:0}") int parallelism) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Roster chunk size must be positive: " + chunkSize);
+        }
+        this.parallelThreshold = parallelThreshold;
+        this.chunkSize = chunkSize;
+        this.pool = new ForkJoinPool(
+                parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors(),
+                RosterQueryExecutor::newWorkerThread,
+                null,
+                false);
+        log.debug(
+                "Roster queries run in parallel from {} rows with parallelism {}",
+                parallelThreshold,
+                pool.getParallelism());
+    }
+
+    public int maxSalary(EmployeeRoster roster) {
+        return execute(roster, roster::maxSalary, Math::max);
+    }
+
+    public int[] topSalaryRows(EmployeeRoster roster, int limit) {
+        return execute(
+                roster,
+                (from, to) -> roster.topSalaryRows(limit, from, to),
+                (left, right) -> roster.mergeTopSalaryRows(left, right, limit));
+    }
+
+    public int[] rowsWithNameContaining(EmployeeRoster roster, String searchString) {
+        return execute(
+                roster,
+                (from, to) -> roster.rowsWithNameContaining(searchString, from, to),
+                RosterQueryExecutor::concat);
+    }
+
+    @Override
+    public void destroy() {
+        pool.shutdown();
+    }
+
+    private <R> R execute(EmployeeRoster roster, RangeScan<R> scan, BinaryOperator<R> merge) {
+        if (roster.size() < parallelThreshold) {
+            return scan.apply(0, roster.size());
+        }
+        return pool.invoke(new RangeTask<>(scan, merge, chunkSize, 0, roster.size()));
+    }
+
+    private static int[] concat(int[] left, int[] right) {
+        int[] rows = new int[left.length + right.length];
+        System.arraycopy(left, 0, rows, 0, left.length);
+        System.arraycopy(right, 0, rows, left.length, right.length);
+        return rows;
+    }
+
+    private static ForkJoinWorkerThread newWorkerThread(ForkJoinPool pool) {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("roster-query-" + thread.getPoolIndex());
+        return thread;
+    }
+
+    @FunctionalInterface
+    private interface RangeScan<R> {
+        R apply(int from, int to);
+    }
+
+    /**
+     * Splits {@code [from, to)} in halves down to the chunk size; left results are merged before right ones so
+     * row order is preserved.
+     */
+    private static final class RangeTask<R> extends RecursiveTask<R> {
+
+        private final RangeScan<R> scan;
+        private final BinaryOperator<R> merge;
+        private final int chunkSize;
+        private final int from;
+        private final int to;
+
+        private RangeTask(RangeScan<R> scan, BinaryOperator<R> merge, int chunkSize, int from, int to) {
+            this.scan = scan;
+            this.merge = merge;
+            this.chunkSize = chunkSize;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected R compute() {
+            if (to - from <= chunkSize) {
+                return scan.apply(from, to);
+            }
+            int middle = (from + to) >>> 1;
+            RangeTask<R> left = new RangeTask<>(scan, merge, chunkSize, from, middle);
+            left.fork();
+            R right = new RangeTask<>(scan, merge, chunkSize, middle, to).compute();
+            return merge.apply(left.join(), right);
+        }
+    }
+}
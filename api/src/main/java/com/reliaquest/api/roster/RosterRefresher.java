@@ -0,0 +1,186 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.client.RateLimitWindow;
+import com.reliaquest.api.service.EmployeeService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the roster cache warm from a background thread through EmployeeService.getAllEmployees.
+ * The roster is fetched once the application is ready, holding up readiness for at most warm-up-timeout, and
+ * again at the refresh-ahead fraction of the time-to-live, plus or minus the jitter fraction, so readers rarely find
+ * it expired. A roster nobody read since it was published is left to expire rather than refreshed, which keeps an
+ * idle instance from spending the mock API's request limit. While the API is rate-limiting, the next fetch waits
+ * until the window learned by RateLimitWindow is expected to close. Fetches run with stale reads off, so a failed
+ * fetch throws instead of being answered from the last good roster, and one the cache did not publish because it
+ * raced a write is tried again after the retry delay.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "employee.roster.refresh.enabled", havingValue = "true", matchIfMissing = true)
+public class RosterRefresher implements DisposableBean {
+
+    static final String ROSTER_REFRESHES = "employee.roster.refreshes";
+
+    private final EmployeeService employeeService;
+    private final EmployeeRosterCache rosterCache;
+    private final RateLimitWindow rateLimitWindow;
+    private final long refreshAheadNanos;
+    private final long jitterNanos;
+    private final long retryDelayNanos;
+    private final Duration warmUpTimeout;
+    private final ScheduledExecutorService scheduler;
+    private final CountDownLatch warmedUp = new CountDownLatch(1);
+
+    private final Counter refreshed;
+    private final Counter skippedIdle;
+    private final Counter skippedFresh;
+    private final Counter rateLimited;
+    private final Counter failed;
+    private final Counter discarded;
+
+    public RosterRefresher(
+            EmployeeService employeeService,
+            EmployeeRosterCache rosterCache,
+            RateLimitWindow rateLimitWindow,
+            MeterRegistry meterRegistry,
+            @Value("${employee.roster.ttl:10s}") Duration timeToLive,
+            @Value("${employee.roster.refresh.ahead:0.8}") double refreshAhead,
+            @Value("${employee.roster.refresh.jitter:0.1}") double jitter,
+            @Value("${employee.roster.refresh.retry-delay:5s}") Duration retryDelay,
+            @Value("${employee.roster.refresh.warm-up-timeout:5s}") Duration warmUpTimeout) {
+        this.employeeService = employeeService;
+        this.rosterCache = rosterCache;
+        this.rateLimitWindow = rateLimitWindow;
+        this.refreshAheadNanos = (long) (timeToLive.toNanos() * refreshAhead);
+        this.jitterNanos = (long) (timeToLive.toNanos() * jitter);
+        this.retryDelayNanos = retryDelay.toNanos();
+        this.warmUpTimeout = warmUpTimeout;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "roster-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.refreshed = result(meterRegistry, "refreshed");
+        this.skippedIdle = result(meterRegistry, "skipped_idle");
+        this.skippedFresh = result(meterRegistry, "skipped_fresh");
+        this.rateLimited = result(meterRegistry, "rate_limited");
+        this.failed = result(meterRegistry, "failed");
+        this.discarded = result(meterRegistry, "discarded");
+    }
+
+    /**
+     * Starts the first fetch and waits up to warm-up-timeout for it, unless a restored snapshot already warmed the
+     * cache, in which case the fetch only reconciles it in the background
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        scheduler.execute(() -> runAndReschedule(true));
+        if (rosterCache.isFresh()) {
+            return;
+        }
+        try {
+            if (!warmedUp.await(warmUpTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                log.warn("Roster cache still cold after {}, accepting traffic anyway", warmUpTimeout);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Whether the first fetch after startup has finished, successfully or not
+     */
+    public boolean isWarmUpFinished() {
+        return warmedUp.getCount() == 0;
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    private void runAndReschedule(boolean warmUp) {
+        long delayNanos;
+        try {
+            delayNanos = refreshIfDue(warmUp);
+        } catch (RuntimeException e) {
+            log.warn("Roster refresh failed unexpectedly: {}", e.toString());
+            delayNanos = retryDelayNanos;
+        } finally {
+            warmedUp.countDown();
+        }
+        try {
+            scheduler.schedule(() -> runAndReschedule(false), delayNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            // shutting down
+        }
+    }
+
+    /**
+     * Fetches the roster if it is due and returns how long to wait before the next check
+     */
+    long refreshIfDue(boolean warmUp) {
+        Duration untilOpen = rateLimitWindow.untilOpen();
+        if (!untilOpen.isZero()) {
+            rateLimited.increment();
+            return untilOpen.toNanos() + positiveJitter();
+        }
+
+        EmployeeRosterCache.StaleRoster last = rosterCache.getLastGood().orElse(null);
+        if (!warmUp && last != null) {
+            long ageNanos = last.age().toNanos();
+            if (ageNanos < refreshAheadNanos - jitterNanos) {
+                // refreshed by a reader in the meantime
+                skippedFresh.increment();
+                return refreshAheadNanos - ageNanos + jitter();
+            }
+            if (!rosterCache.wasReadSincePublish()) {
+                skippedIdle.increment();
+                return refreshAheadNanos + jitter();
+            }
+        }
+
+        long publishesBefore = rosterCache.publishCount();
+        try {
+            StaleRosterReads.disabledDuring(employeeService::getAllEmployees);
+        } catch (RuntimeException e) {
+            log.debug("Background roster refresh failed: {}", e.getMessage());
+            failed.increment();
+            return Math.max(retryDelayNanos, rateLimitWindow.untilOpen().toNanos()) + positiveJitter();
+        }
+        if (rosterCache.publishCount() == publishesBefore) {
+            // the fetch raced a create or delete, so the cache did not publish it
+            discarded.increment();
+            return retryDelayNanos + positiveJitter();
+        }
+        refreshed.increment();
+        return refreshAheadNanos + jitter();
+    }
+
+    private long jitter() {
+        return jitterNanos == 0 ? 0 : ThreadLocalRandom.current().nextLong(-jitterNanos, jitterNanos + 1);
+    }
+
+    private long positiveJitter() {
+        return jitterNanos == 0 ? 0 : ThreadLocalRandom.current().nextLong(jitterNanos + 1);
+    }
+
+    private static Counter result(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(ROSTER_REFRESHES).tag("result", result).register(meterRegistry);
+    }
+}
@@ -0,0 +1,89 @@
+package com.reliaquest.api.roster;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Warm restart support for the roster cache.
+ * On startup the last snapshot, if built within max-age, is restored before the web server accepts requests: it is
+ * fresh for one time-to-live, so the first reads are served from it, while its age, for stale reads and health, runs
+ * from when it was built. RosterRefresher reconciles it with upstream meanwhile. While running, the cached roster
+ * is snapshotted with its build time periodically and once more on shutdown. Off unless
+ * employee.roster.snapshot.enabled is set, as the snapshot holds every employee's personal details.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "employee.roster.snapshot.enabled", havingValue = "true")
+public class RosterSnapshotScheduler implements InitializingBean, DisposableBean {
+
+    private final RosterSnapshotStore snapshotStore;
+    private final EmployeeRosterCache rosterCache;
+    private final Duration maxAge;
+
+    private volatile EmployeeRoster lastSaved;
+
+    public RosterSnapshotScheduler(
+            RosterSnapshotStore snapshotStore,
+            EmployeeRosterCache rosterCache,
+            @Value("${employee.roster.snapshot.max-age:1h}") Duration maxAge) {
+        this.snapshotStore = snapshotStore;
+        this.rosterCache = rosterCache;
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * Publishes the snapshot, if recent enough, so the first requests after a restart do not all go upstream
+     */
+    @Override
+    public void afterPropertiesSet() {
+        long started = System.nanoTime();
+        snapshotStore.read().ifPresent(snapshot -> {
+            if (snapshot.builtAt().plus(maxAge).isBefore(Instant.now())) {
+                log.info("Skipping roster snapshot built at {}, older than {}", snapshot.builtAt(), maxAge);
+                return;
+            }
+            rosterCache.restore(snapshot.roster(), snapshot.builtAt());
+            lastSaved = snapshot.roster();
+            log.info(
+                    "Restored {} employees from roster snapshot built at {} in {}ms ({}ms after JVM start)",
+                    snapshot.roster().size(),
+                    snapshot.builtAt(),
+                    Duration.ofNanos(System.nanoTime() - started).toMillis(),
+                    ManagementFactory.getRuntimeMXBean().getUptime());
+        });
+    }
+
+    @Scheduled(
+            initialDelayString = "${employee.roster.snapshot.interval:PT30S}",
+            fixedDelayString = "${employee.roster.snapshot.interval:PT30S}")
+    public void saveSnapshot() {
+        rosterCache.peekIfFresh().ifPresent(this::save);
+    }
+
+    @Override
+    public void destroy() {
+        saveSnapshot();
+    }
+
+    private synchronized void save(EmployeeRosterCache.FreshRoster fresh) {
+        EmployeeRoster roster = fresh.roster();
+        if (roster == lastSaved) {
+            return;
+        }
+        try {
+            snapshotStore.write(roster, fresh.builtAt());
+            lastSaved = roster;
+        } catch (IOException e) {
+            log.warn("Failed to write roster snapshot: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.reliaquest.api.roster;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reads and writes the roster as a single binary snapshot file.
+ * Layout: magic, format version, build time, the roster columns and a trailing CRC32 of everything before it.
+ * Files are written to a temporary sibling and atomically moved into place, and memory-mapped on load. Where the
+ * file system supports POSIX permissions, the file and any directories created for it are readable by the owner only.
+ */
+@Slf4j
+@Component
+public class RosterSnapshotStore {
+
+    static final int MAGIC = 0x52515253; // "RQRS"
+    static final int FORMAT_VERSION = 2;
+
+    private static final int HEADER_BYTES = Integer.BYTES + Integer.BYTES + Long.BYTES;
+    private static final int CHECKSUM_BYTES = Long.BYTES;
+    private static final String OWNER_ONLY_DIRECTORY = "rwx------";
+    private static final String OWNER_ONLY_FILE = "rw-------";
+
+    private final Path path;
+
+    public RosterSnapshotStore(
+            @Value("${employee.roster.snapshot.path:${user.home}/.employee-api/roster.snapshot}") Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Writes the roster, replacing any previous snapshot only once the new one is fully on disk
+     */
+    public void write(EmployeeRoster roster, Instant builtAt) throws IOException {
+        boolean posix = path.getFileSystem().supportedFileAttributeViews().contains("posix");
+        Files.createDirectories(path.toAbsolutePath().getParent(), permissions(posix, OWNER_ONLY_DIRECTORY));
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        // created afresh so it never keeps the looser permissions of a file left behind
+        Files.deleteIfExists(temporary);
+        try (FileChannel channel = FileChannel.open(
+                temporary,
+                Set.of(StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE),
+                permissions(posix, OWNER_ONLY_FILE))) {
+            BufferedOutputStream buffered = new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16);
+            CheckedOutputStream checked = new CheckedOutputStream(buffered, new CRC32());
+            DataOutputStream data = new DataOutputStream(checked);
+            data.writeInt(MAGIC);
+            data.writeInt(FORMAT_VERSION);
+            data.writeLong(builtAt.toEpochMilli());
+            roster.writeColumns(data);
+            data.flush();
+            new DataOutputStream(buffered).writeLong(checked.getChecksum().getValue());
+            buffered.flush();
+            channel.force(true);
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.debug("Wrote roster snapshot with {} rows to {}", roster.size(), path);
+    }
+
+    /**
+     * Loads the snapshot, or returns empty when there is none or it is truncated, corrupt or of another version
+     */
+    public Optional<Snapshot> read() {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length < HEADER_BYTES + CHECKSUM_BYTES || length > Integer.MAX_VALUE) {
+                log.warn("Ignoring roster snapshot {} with unexpected length {}", path, length);
+                return Optional.empty();
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+            int payloadLength = (int) length - CHECKSUM_BYTES;
+            CRC32 checksum = new CRC32();
+            checksum.update(mapped.slice(0, payloadLength));
+            if (checksum.getValue() != mapped.getLong(payloadLength)) {
+                log.warn("Ignoring roster snapshot {} with checksum mismatch", path);
+                return Optional.empty();
+            }
+
+            ByteBuffer payload = mapped.slice(0, payloadLength);
+            int magic = payload.getInt();
+            int version = payload.getInt();
+            if (magic != MAGIC || version != FORMAT_VERSION) {
+                log.warn("Ignoring roster snapshot {} with format {}/{}", path, Integer.toHexString(magic), version);
+                return Optional.empty();
+            }
+            Instant builtAt = Instant.ofEpochMilli(payload.getLong());
+            EmployeeRoster roster = EmployeeRoster.readColumns(payload);
+            if (payload.hasRemaining()) {
+                log.warn("Ignoring roster snapshot {} with {} trailing bytes", path, payload.remaining());
+                return Optional.empty();
+            }
+            return Optional.of(new Snapshot(roster, builtAt));
+        } catch (NoSuchFileException e) {
+            log.debug("No roster snapshot at {}", path);
+            return Optional.empty();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to read roster snapshot {}: {}", path, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static FileAttribute<?>[] permissions(boolean posix, String permissions) {
+        if (!posix) {
+            return new FileAttribute<?>[0];
+        }
+        FileAttribute<?> attribute = PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString(permissions));
+        return new FileAttribute<?>[] {attribute};
+    }
+
+    /**
+     * A restored roster and when it was built from an upstream fetch
+     */
+    public record Snapshot(EmployeeRoster roster, Instant builtAt) {}
+}
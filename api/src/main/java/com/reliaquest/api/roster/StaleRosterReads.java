@@ -0,0 +1,107 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.exception.DeadlineExceededException;
+import com.reliaquest.api.exception.RateLimitExceededException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Degraded mode for reads: when the upstream fetch fails because the mock API is rate-limiting, rejecting or
+ * erroring, reads answer from the last good roster instead of retrying, as long as it is no older than
+ * {@code employee.roster.max-staleness}. Served reads are counted and marked on the current request, so the
+ * response carries the roster's age, see StaleResponseHeaderAdvice.
+ */
+@Slf4j
+@Component
+public class StaleRosterReads {
+
+    static final String STALE_RESPONSES = "employee.stale.responses";
+
+    /**
+     * Request attribute holding the {@link StaleResponse} of a read answered from a stale roster
+     */
+    public static final String STALE_RESPONSE_ATTRIBUTE = StaleRosterReads.class.getName() + ".staleResponse";
+
+    private static final ThreadLocal<Boolean> DISABLED = new ThreadLocal<>();
+
+    private final MeterRegistry meterRegistry;
+    private final Duration maxStaleness;
+
+    public StaleRosterReads(
+            MeterRegistry meterRegistry, @Value("${employee.roster.max-staleness:1h}") Duration maxStaleness) {
+        this.meterRegistry = meterRegistry;
+        this.maxStaleness = maxStaleness;
+    }
+
+    /**
+     * Whether a read that failed with the given exception may be answered from this roster
+     */
+    public boolean canServe(RuntimeException failure, EmployeeRosterCache.StaleRoster stale) {
+        return DISABLED.get() == null && reason(failure) != null && stale.age().compareTo(maxStaleness) <= 0;
+    }
+
+    /**
+     * Runs the action with stale reads off on the calling thread, so a failed fetch reaches the caller as a failure
+     * rather than as the last good roster, see RosterRefresher
+     */
+    public static <T> T disabledDuring(Supplier<T> action) {
+        Boolean previous = DISABLED.get();
+        DISABLED.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                DISABLED.remove();
+            }
+        }
+    }
+
+    /**
+     * Records that the named read is answered from the stale roster and returns it
+     */
+    public EmployeeRoster serve(String method, RuntimeException failure, EmployeeRosterCache.StaleRoster stale) {
+        String reason = reason(failure);
+        Counter.builder(STALE_RESPONSES)
+                .tag("method", method)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(
+                    STALE_RESPONSE_ATTRIBUTE, new StaleResponse(stale.age(), reason), RequestAttributes.SCOPE_REQUEST);
+        }
+        log.debug(
+                "Serving {} from a roster published {}s ago: {}", method, stale.age().toSeconds(), failure.toString());
+        return stale.roster();
+    }
+
+    private static String reason(RuntimeException failure) {
+        if (failure instanceof RateLimitExceededException) {
+            return "rate_limited";
+        }
+        if (failure instanceof CallNotPermittedException || failure instanceof BulkheadFullException) {
+            return "upstream_rejected";
+        }
+        if (failure instanceof HttpServerErrorException || failure instanceof ResourceAccessException) {
+            return "upstream_error";
+        }
+        if (failure instanceof DeadlineExceededException) {
+            return "deadline_exceeded";
+        }
+        return null;
+    }
+
+    public record StaleResponse(Duration age, String reason) {}
+}
@@ -2,6 +2,8 @@ package com.reliaquest.api.service;
 
 import com.reliaquest.api.model.EmployeeCreateRequestDTO;
 import com.reliaquest.api.model.EmployeeDTO;
+import com.reliaquest.api.model.EmployeeQuery;
+import com.reliaquest.api.model.NameSearchMode;
 import java.util.List;
 import java.util.UUID;
 
@@ -11,6 +13,10 @@ public interface EmployeeService {
 
     List<EmployeeDTO> getEmployeesByNameSearch(String searchString);
 
+    List<EmployeeDTO> searchEmployeesByName(String query, NameSearchMode mode, int limit);
+
+    List<EmployeeDTO> queryEmployees(EmployeeQuery query);
+
     EmployeeDTO getEmployeeById(UUID id);
 
     Integer getHighestSalaryOfEmployees();
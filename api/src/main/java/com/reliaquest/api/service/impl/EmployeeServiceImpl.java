@@ -1,23 +1,32 @@
 package com.reliaquest.api.service.impl;
 
 import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.client.HedgedRequests;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
 import com.reliaquest.api.exception.ExternalApiException;
 import com.reliaquest.api.model.ApiResponse;
 import com.reliaquest.api.model.EmployeeCreateRequestDTO;
 import com.reliaquest.api.model.EmployeeDTO;
+import com.reliaquest.api.model.EmployeeQuery;
 import com.reliaquest.api.model.ExternalEmployeeDTO;
+import com.reliaquest.api.model.NameSearchMode;
+import com.reliaquest.api.roster.EmployeeRoster;
+import com.reliaquest.api.roster.EmployeeRosterCache;
+import com.reliaquest.api.roster.NameSearchIndex;
+import com.reliaquest.api.roster.RosterQueryExecutor;
+import com.reliaquest.api.roster.StaleRosterReads;
 import com.reliaquest.api.service.EmployeeService;
 import io.github.resilience4j.retry.annotation.Retry;
 import java.util.*;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 
 /**
- * Service for managing employee operations with the EmployeeApiClient
+ * Service for managing employee operations with the EmployeeApiClient.
+ * Reads whose upstream call is rate-limited or fails fall back to the last good roster when StaleRosterReads
+ * allows it, without retrying; writes always go upstream.
  */
 @Slf4j
 @Service
@@ -28,33 +37,39 @@ public class EmployeeServiceImpl implements EmployeeService {
 
     private final EmployeeApiClient employeeApiClient;
 
+    private final EmployeeRosterCache rosterCache;
+
+    private final RosterQueryExecutor rosterQueryExecutor;
+
+    private final StaleRosterReads staleRosterReads;
+
+    private final HedgedRequests hedgedRequests;
+
     /**
      * Retrieves all employees from the mock API
      */
     @Retry(name = EMPLOYEE_SERVER)
     public List<EmployeeDTO> getAllEmployees() {
-        log.debug("Attempting to fetch all employees from API");
-
-        ApiResponse<List<EmployeeDTO>> response = employeeApiClient.getAllEmployees();
-
-        if (response != null && response.getData() != null) {
-            List<EmployeeDTO> employees = response.getData();
-            log.debug("Successfully retrieved {} employees", employees.size());
-            return employees;
+        long writesBefore = rosterCache.writeCount();
+        List<EmployeeDTO> employees;
+        try {
+            employees = fetchAllEmployees();
+        } catch (RuntimeException e) {
+            return staleRosterOrThrow("getAllEmployees", e).employees();
         }
-
-        throw new ExternalApiException("Empty response from employee API");
+        rosterCache.refresh(employees, writesBefore);
+        return employees;
     }
 
     /**
-     * Retrieves a single employee by ID
+     * Retrieves a single employee by ID, hedged when employee.api.hedging is enabled
      */
     @Retry(name = EMPLOYEE_SERVER)
     public EmployeeDTO getEmployeeById(UUID id) {
         log.debug("Attempting to fetch employee with ID: {}", id);
 
         try {
-            ApiResponse<EmployeeDTO> response = employeeApiClient.getEmployeeById(id);
+            ApiResponse<EmployeeDTO> response = hedgedRequests.call(() -> employeeApiClient.getEmployeeById(id));
 
             if (response != null && response.getData() != null) {
                 EmployeeDTO employee = response.getData();
@@ -67,6 +82,16 @@ public class EmployeeServiceImpl implements EmployeeService {
         } catch (HttpClientErrorException.NotFound e) {
             log.warn("Employee not found with ID: {}", id);
             throw new EmployeeNotFoundException("Employee not found with ID: " + id);
+        } catch (EmployeeNotFoundException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            // an employee missing from the stale roster may have been created since, so that is not a 404
+            EmployeeRoster roster = staleRosterOrThrow("getEmployeeById", e);
+            int row = roster.rowOf(id);
+            if (row < 0) {
+                throw e;
+            }
+            return roster.employeeAt(row);
         }
     }
 
@@ -77,17 +102,48 @@ public class EmployeeServiceImpl implements EmployeeService {
     public List<EmployeeDTO> getEmployeesByNameSearch(String searchString) {
         log.debug("Searching employees with name containing: {}", searchString);
 
-        List<EmployeeDTO> allEmployees = getAllEmployees();
+        EmployeeRoster roster = currentRoster("getEmployeesByNameSearch");
 
-        List<EmployeeDTO> matchingEmployees = allEmployees.stream()
-                .filter(employee -> employee.getName() != null
-                        && employee.getName().toLowerCase().contains(searchString.toLowerCase()))
-                .collect(Collectors.toList());
+        List<EmployeeDTO> matchingEmployees =
+                roster.employeesAt(rosterQueryExecutor.rowsWithNameContaining(roster, searchString));
 
         log.debug("Found {} employees matching search term: {}", matchingEmployees.size(), searchString);
         return matchingEmployees;
     }
 
+    /**
+     * Ranked prefix or fuzzy name search over the cached roster's name index
+     */
+    @Retry(name = EMPLOYEE_SERVER)
+    public List<EmployeeDTO> searchEmployeesByName(String query, NameSearchMode mode, int limit) {
+        log.debug("Searching employees by name with mode {} and limit {}: {}", mode, limit, query);
+
+        EmployeeRoster roster = currentRoster("searchEmployeesByName");
+        NameSearchIndex index = roster.nameSearchIndex();
+
+        int[] rows =
+                mode == NameSearchMode.FUZZY ? index.fuzzyMatches(query, limit) : index.prefixMatches(query, limit);
+        List<EmployeeDTO> matchingEmployees = roster.employeesAt(rows);
+
+        log.debug("Found {} ranked matches for: {}", matchingEmployees.size(), query);
+        return matchingEmployees;
+    }
+
+    /**
+     * Filters employees by title, age range, salary range and email domain using the cached roster's indexes
+     */
+    @Retry(name = EMPLOYEE_SERVER)
+    public List<EmployeeDTO> queryEmployees(EmployeeQuery query) {
+        log.debug("Querying employees with: {}", query);
+
+        EmployeeRoster roster = currentRoster("queryEmployees");
+
+        List<EmployeeDTO> matchingEmployees = roster.employeesAt(roster.attributeIndex().matchingRows(query));
+
+        log.debug("Found {} employees matching query", matchingEmployees.size());
+        return matchingEmployees;
+    }
+
     /**
      * Gets the highest salary among all employees
      */
@@ -95,13 +151,8 @@ public class EmployeeServiceImpl implements EmployeeService {
     public Integer getHighestSalaryOfEmployees() {
         log.debug("Finding highest salary among all employees");
 
-        List<EmployeeDTO> allEmployees = getAllEmployees();
-
-        Integer highestSalary = allEmployees.stream()
-                .filter(employee -> employee.getSalary() != null)
-                .mapToInt(EmployeeDTO::getSalary)
-                .max()
-                .orElse(0);
+        int maxSalary = rosterQueryExecutor.maxSalary(currentRoster("getHighestSalaryOfEmployees"));
+        Integer highestSalary = maxSalary == EmployeeRoster.NO_VALUE ? 0 : maxSalary;
 
         log.debug("Highest salary found: {}", highestSalary);
         return highestSalary;
@@ -114,21 +165,19 @@ public class EmployeeServiceImpl implements EmployeeService {
     public List<String> getTopTenHighestEarningEmployeeNames() {
         log.debug("Finding top 10 highest earning employee names");
 
-        List<EmployeeDTO> allEmployees = getAllEmployees();
+        EmployeeRoster roster = currentRoster("getTopTenHighestEarningEmployeeNames");
 
-        List<String> topTenNames = allEmployees.stream()
-                .filter(employee -> employee.getSalary() != null && employee.getName() != null)
-                .sorted(Comparator.comparing(EmployeeDTO::getSalary).reversed())
-                .limit(10)
-                .map(EmployeeDTO::getName)
-                .collect(Collectors.toList());
+        List<String> topTenNames = new ArrayList<>(10);
+        for (int row : rosterQueryExecutor.topSalaryRows(roster, 10)) {
+            topTenNames.add(roster.nameAt(row));
+        }
 
         log.debug("Found top {} highest earning employees", topTenNames.size());
         return topTenNames;
     }
 
     /**
-     * Creates a new employee
+     * Creates a new employee and adds it to the cached roster
      */
     @Retry(name = EMPLOYEE_SERVER)
     public EmployeeDTO createEmployee(EmployeeCreateRequestDTO request) {
@@ -144,6 +193,11 @@ public class EmployeeServiceImpl implements EmployeeService {
                     "Successfully created employee: {} with ID: {}",
                     createdEmployee.getName(),
                     createdEmployee.getId());
+            rosterCache.update(roster -> {
+                // a roster fetched after the create may already have it
+                UUID id = createdEmployee.getId();
+                return id != null && roster.rowOf(id) >= 0 ? roster : roster.withAdded(createdEmployee);
+            });
             return createdEmployee;
         }
 
@@ -151,14 +205,15 @@ public class EmployeeServiceImpl implements EmployeeService {
     }
 
     /**
-     * Deletes an employee by ID and returns the employee's name
+     * Deletes an employee by ID, removes it from the cached roster and returns the employee's name
      */
     @Retry(name = EMPLOYEE_SERVER)
     public String deleteEmployeeById(UUID id) {
         log.debug("Attempting to delete employee with ID: {}", id);
 
-        // First, get the employee to retrieve the name
-        EmployeeDTO employee = getEmployeeById(id);
+        // First, get the employee to retrieve the name; never from the stale roster, as the employee may already be
+        // gone upstream and the delete by name would then remove a namesake
+        EmployeeDTO employee = StaleRosterReads.disabledDuring(() -> getEmployeeById(id));
         String employeeName = employee.getName();
 
         Map<String, Object> requestBody = new HashMap<>();
@@ -168,9 +223,55 @@ public class EmployeeServiceImpl implements EmployeeService {
 
         if (response != null && Boolean.TRUE.equals(response.getData())) {
             log.debug("Successfully deleted employee: {}", employeeName);
+            // the mock API deletes the first employee with the name in any case, not necessarily the one with the id
+            rosterCache.update(roster -> {
+                int row = roster.rowOfNameIgnoreCase(employeeName);
+                return row >= 0 ? roster.withoutRow(row) : roster;
+            });
             return employeeName;
         }
 
         throw new ExternalApiException("Failed to delete employee - operation not confirmed");
     }
+
+    /**
+     * Returns the cached roster, fetching and rebuilding it from upstream when it has expired
+     */
+    private EmployeeRoster currentRoster(String method) {
+        return rosterCache.getIfFresh().orElseGet(() -> {
+            long writesBefore = rosterCache.writeCount();
+            List<EmployeeDTO> employees;
+            try {
+                employees = fetchAllEmployees();
+            } catch (RuntimeException e) {
+                return staleRosterOrThrow(method, e);
+            }
+            return rosterCache.refresh(employees, writesBefore);
+        });
+    }
+
+    /**
+     * The last good roster if the failure allows a stale answer, otherwise the failure, which the retry then handles
+     */
+    private EmployeeRoster staleRosterOrThrow(String method, RuntimeException failure) {
+        return rosterCache
+                .getLastGood()
+                .filter(stale -> staleRosterReads.canServe(failure, stale))
+                .map(stale -> staleRosterReads.serve(method, failure, stale))
+                .orElseThrow(() -> failure);
+    }
+
+    private List<EmployeeDTO> fetchAllEmployees() {
+        log.debug("Attempting to fetch all employees from API");
+
+        ApiResponse<List<EmployeeDTO>> response = employeeApiClient.getAllEmployees();
+
+        if (response != null && response.getData() != null) {
+            List<EmployeeDTO> employees = response.getData();
+            log.debug("Successfully retrieved {} employees", employees.size());
+            return employees;
+        }
+
+        throw new ExternalApiException("Empty response from employee API");
+    }
 }
@@ -0,0 +1,112 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class HedgedRequestsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private HedgedRequests hedgedRequests;
+
+    @AfterEach
+    void tearDown() {
+        hedgedRequests.destroy();
+    }
+
+    @Test
+    void slowPrimary_IsOvertakenByHedge() {
+        // Given
+        hedgedRequests = new HedgedRequests(meterRegistry, true, 0.95, Duration.ofMillis(5), 0.05, 4);
+        warmUp();
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        long started = System.nanoTime();
+        String result = hedgedRequests.call(() -> attempts.incrementAndGet() == 1 ? sleep(10_000, "primary") : "hedge");
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        // Then
+        assertEquals("hedge", result);
+        assertEquals(2, attempts.get());
+        assertTrue(elapsedMillis < 5_000, "took " + elapsedMillis + "ms");
+        assertEquals(1, resultCount("hedge_won"));
+    }
+
+    @Test
+    void hedges_StopWhenBudgetIsSpent() {
+        // Given
+        hedgedRequests = new HedgedRequests(meterRegistry, true, 0.95, Duration.ofMillis(5), 0, 4);
+        warmUp();
+
+        // When: the initial burst of ten hedges is spent and calls add nothing back
+        for (int i = 0; i < 11; i++) {
+            AtomicInteger attempts = new AtomicInteger();
+            hedgedRequests.call(() -> attempts.incrementAndGet() == 1 ? sleep(50, "primary") : "hedge");
+        }
+
+        // Then
+        assertEquals(10, resultCount("hedge_won"));
+        assertEquals(1, resultCount("over_budget"));
+    }
+
+    @Test
+    void failureBeforeDelay_IsRethrownWithoutHedging() {
+        // Given
+        hedgedRequests = new HedgedRequests(meterRegistry, true, 0.95, Duration.ofSeconds(1), 0.05, 4);
+        AtomicInteger attempts = new AtomicInteger();
+        Supplier<String> failing = () -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("upstream failed");
+        };
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> hedgedRequests.call(failing));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void disabled_RunsCallOnCallerThread() {
+        // Given
+        hedgedRequests = new HedgedRequests(meterRegistry, false, 0.95, Duration.ofMillis(5), 0.05, 4);
+        Thread caller = Thread.currentThread();
+
+        // When
+        Thread ranOn = hedgedRequests.call(Thread::currentThread);
+
+        // Then
+        assertSame(caller, ranOn);
+    }
+
+    /**
+     * Fills the latency window with fast calls, so the hedging delay settles at the minimum delay
+     */
+    private void warmUp() {
+        for (int i = 0; i < 256; i++) {
+            hedgedRequests.call(() -> "warm");
+        }
+    }
+
+    private double resultCount(String result) {
+        return meterRegistry
+                .get(HedgedRequests.HEDGED_REQUESTS)
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+    private static String sleep(long millis, String result) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,62 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class RateLimitWindowTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final RateLimitWindow window = new RateLimitWindow(Duration.ofSeconds(30), nanos::get);
+
+    @Test
+    void window_IsLearnedFromLastAcceptedToFirstAcceptedAfterLimit() {
+        // Given: accepted at 10s, limited from 12s, accepted again at 55s
+        advance(10);
+        window.accepted();
+        advance(2);
+        window.rateLimited();
+        advance(43);
+
+        // When
+        window.accepted();
+
+        // Then
+        assertEquals(Duration.ofSeconds(45), window.window());
+        assertEquals(Duration.ZERO, window.untilOpen());
+    }
+
+    @Test
+    void untilOpen_CountsFromLastAcceptedCall() {
+        // Given
+        advance(10);
+        window.accepted();
+        advance(5);
+
+        // When
+        window.rateLimited();
+
+        // Then: the 30s window opened at the last accepted call, 5s ago
+        assertEquals(Duration.ofSeconds(25), window.untilOpen());
+    }
+
+    @Test
+    void limitOutlastingEstimate_DoublesIt() {
+        // Given
+        window.rateLimited();
+        advance(31);
+
+        // When
+        window.rateLimited();
+
+        // Then
+        assertEquals(Duration.ofSeconds(60), window.window());
+        assertEquals(Duration.ofSeconds(29), window.untilOpen());
+    }
+
+    private void advance(long seconds) {
+        nanos.addAndGet(Duration.ofSeconds(seconds).toNanos());
+    }
+}
@@ -0,0 +1,37 @@
+package com.reliaquest.api.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.exception.RateLimitExceededException;
+import com.reliaquest.api.service.impl.EmployeeServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+class ApiRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @Test
+    void registersProxyAndReflectionHints() {
+        // When
+        new ApiRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        // Then
+        assertTrue(RuntimeHintsPredicates.proxies()
+                .forInterfaces(AopProxyUtils.completeJdkProxyInterfaces(EmployeeApiClient.class))
+                .test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(EmployeeServiceImpl.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_METHODS)
+                .test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(RateLimitExceededException.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(SampledLogTurboFilter.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)
+                .test(hints));
+    }
+}
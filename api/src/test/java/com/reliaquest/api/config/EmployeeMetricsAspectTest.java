@@ -0,0 +1,78 @@
+package com.reliaquest.api.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.exception.ExternalApiException;
+import com.reliaquest.api.exception.RateLimitExceededException;
+import com.reliaquest.api.model.ApiResponse;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+class EmployeeMetricsAspectTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final EmployeeMetricsAspect aspect = new EmployeeMetricsAspect(
+            meterRegistry,
+            RetryRegistry.of(RetryConfig.custom()
+                    .retryExceptions(HttpServerErrorException.class)
+                    .build()));
+
+    @Test
+    void upstreamCalls_AreTimedPerMethodAndOutcome() {
+        // Given
+        EmployeeApiClient target = mock(EmployeeApiClient.class);
+        UUID id = UUID.randomUUID();
+        when(target.getAllEmployees()).thenReturn(new ApiResponse<>(List.of(), "Success"));
+        when(target.getEmployeeById(id))
+                .thenThrow(HttpClientErrorException.create(
+                        HttpStatus.NOT_FOUND, "Not Found", HttpHeaders.EMPTY, new byte[0], null));
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.addAspect(aspect);
+        EmployeeApiClient client = proxyFactory.getProxy();
+
+        // When
+        client.getAllEmployees();
+        client.getAllEmployees();
+        assertThrows(HttpClientErrorException.NotFound.class, () -> client.getEmployeeById(id));
+
+        // Then
+        assertEquals(2, upstreamCount("getAllEmployees", "success"));
+        assertEquals(1, upstreamCount("getEmployeeById", "not_found"));
+    }
+
+    @Test
+    void endpointOutcome_SeparatesRateLimitingFromExhaustedRetries() {
+        // When & Then
+        assertEquals(
+                EmployeeMetricsAspect.Outcome.RATE_LIMITED,
+                aspect.endpointOutcome(new RateLimitExceededException("Rate limit exceeded")));
+        assertEquals(
+                EmployeeMetricsAspect.Outcome.RETRY_EXHAUSTED,
+                aspect.endpointOutcome(new HttpServerErrorException(HttpStatus.BAD_GATEWAY)));
+        assertEquals(
+                EmployeeMetricsAspect.Outcome.INVALID_REQUEST,
+                aspect.endpointOutcome(new IllegalArgumentException("limit must be between 1 and 100")));
+        assertEquals(EmployeeMetricsAspect.Outcome.ERROR, aspect.endpointOutcome(new ExternalApiException("Empty")));
+    }
+
+    private long upstreamCount(String method, String outcome) {
+        return meterRegistry
+                .get(EmployeeMetricsAspect.UPSTREAM_TIMER)
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .timer()
+                .count();
+    }
+}
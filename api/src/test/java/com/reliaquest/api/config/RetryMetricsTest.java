@@ -0,0 +1,76 @@
+package com.reliaquest.api.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.exception.RateLimitExceededException;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class RetryMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final Retry retry = Retry.of(
+            "employee-server",
+            RetryConfig.custom()
+                    .maxAttempts(3)
+                    .waitDuration(Duration.ofMillis(5))
+                    .retryExceptions(RateLimitExceededException.class)
+                    .build());
+
+    @Test
+    void retriedCall_CountsAttemptsAndRecordsTotalBackoff() {
+        // Given
+        RetryMetrics.bind(retry, meterRegistry);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        String result = retry.executeSupplier(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new RateLimitExceededException("Rate limit exceeded");
+            }
+            return "ok";
+        });
+
+        // Then
+        assertEquals("ok", result);
+        assertEquals(2, eventCount("retry", "RateLimitExceededException"));
+        assertEquals(1, eventCount("success_after_retry", "RateLimitExceededException"));
+        Timer backoff = meterRegistry.get(RetryMetrics.BACKOFF).timer();
+        assertEquals(1, backoff.count());
+        assertTrue(backoff.totalTime(TimeUnit.MILLISECONDS) >= 10);
+        assertEquals(0, meterRegistry.get(RetryMetrics.IN_BACKOFF).gauge().value());
+    }
+
+    @Test
+    void exhaustedCall_IsCountedOnceWithItsException() {
+        // Given
+        RetryMetrics.bind(retry, meterRegistry);
+
+        // When
+        assertThrows(RateLimitExceededException.class, () -> retry.executeRunnable(() -> {
+            throw new RateLimitExceededException("Rate limit exceeded");
+        }));
+
+        // Then
+        assertEquals(2, eventCount("retry", "RateLimitExceededException"));
+        assertEquals(1, eventCount("exhausted", "RateLimitExceededException"));
+        assertEquals(1, meterRegistry.get(RetryMetrics.BACKOFF).timer().count());
+    }
+
+    private double eventCount(String kind, String exception) {
+        return meterRegistry
+                .get(RetryMetrics.EVENTS)
+                .tag("name", "employee-server")
+                .tag("kind", kind)
+                .tag("exception", exception)
+                .counter()
+                .count();
+    }
+}
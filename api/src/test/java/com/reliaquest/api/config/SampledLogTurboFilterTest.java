@@ -0,0 +1,67 @@
+package com.reliaquest.api.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.Test;
+
+class SampledLogTurboFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final Logger controllerLogger = context.getLogger("com.reliaquest.api.controller.EmployeeController");
+
+    @Test
+    void infoUnderPrefix_IsSampled() {
+        // Given
+        SampledLogTurboFilter filter = startedFilter(100);
+
+        // When
+        int kept = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.decide(null, controllerLogger, Level.INFO, "message", null, null) == FilterReply.NEUTRAL) {
+                kept++;
+            }
+        }
+
+        // Then
+        assertTrue(kept > 500 && kept < 1_500, "kept " + kept + " of 100000");
+    }
+
+    @Test
+    void warnAndOtherLoggers_AreNeverDropped() {
+        // Given
+        SampledLogTurboFilter filter = startedFilter(1_000_000);
+        Logger serviceLogger = context.getLogger("com.reliaquest.api.service.EmployeeServiceImpl");
+
+        // When & Then
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(FilterReply.NEUTRAL, filter.decide(null, controllerLogger, Level.WARN, "message", null, null));
+            assertEquals(FilterReply.NEUTRAL, filter.decide(null, serviceLogger, Level.INFO, "message", null, null));
+        }
+    }
+
+    @Test
+    void invalidSampleRate_LeavesFilterStoppedAndNeutral() {
+        // Given
+        SampledLogTurboFilter filter = startedFilter(0);
+
+        // When
+        FilterReply reply = filter.decide(null, controllerLogger, Level.INFO, "message", null, null);
+
+        // Then
+        assertFalse(filter.isStarted());
+        assertEquals(FilterReply.NEUTRAL, reply);
+    }
+
+    private SampledLogTurboFilter startedFilter(int sampleRate) {
+        SampledLogTurboFilter filter = new SampledLogTurboFilter();
+        filter.setContext(context);
+        filter.setLoggerPrefix("com.reliaquest.api.controller");
+        filter.setSampleRate(sampleRate);
+        filter.start();
+        return filter;
+    }
+}
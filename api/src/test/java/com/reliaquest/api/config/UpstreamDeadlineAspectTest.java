@@ -0,0 +1,179 @@
+package com.reliaquest.api.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.client.RequestDeadline;
+import com.reliaquest.api.client.UpstreamTimeouts;
+import com.reliaquest.api.exception.DeadlineExceededException;
+import com.reliaquest.api.exception.RateLimitExceededException;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.EmployeeDTO;
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+class UpstreamDeadlineAspectTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // the application's retry: three attempts, 10s then 20s apart
+    private final RetryRegistry retryRegistry = RetryRegistry.of(RetryConfig.custom()
+            .maxAttempts(3)
+            .intervalFunction(IntervalFunction.ofExponentialBackoff(Duration.ofSeconds(10), 2))
+            .retryExceptions(RateLimitExceededException.class)
+            .build());
+
+    private final EmployeeApiClient target = mock(EmployeeApiClient.class);
+
+    @Test
+    void expiredDeadline_SkipsUpstreamCall() {
+        // Given
+        EmployeeApiClient client = boundedClient(timeouts(false));
+        UUID id = UUID.randomUUID();
+
+        // When & Then
+        RequestDeadline.after(Duration.ZERO)
+                .run(() -> assertThrows(DeadlineExceededException.class, () -> client.getEmployeeById(id)));
+        verify(target, never()).getEmployeeById(any());
+        assertEquals(1, exceededCount("before_call"));
+    }
+
+    @Test
+    void retryWaitBeyondDeadline_FailsWithoutRetrying() {
+        // Given
+        RateLimitExceededException rateLimited = new RateLimitExceededException("Rate limit exceeded (HTTP 429)");
+        when(target.getAllEmployees()).thenThrow(rateLimited);
+        EmployeeApiClient client = boundedClient(timeouts(false));
+
+        // When: 5s left, but the next attempt would only start 10s from now
+        DeadlineExceededException failure = RequestDeadline.after(Duration.ofSeconds(5))
+                .run(() -> assertThrows(DeadlineExceededException.class, client::getAllEmployees));
+
+        // Then
+        assertSame(rateLimited, failure.getCause());
+        assertEquals(1, exceededCount("retry_skipped"));
+    }
+
+    @Test
+    void retryWaitWithinDeadline_RethrowsForRetry() {
+        // Given
+        when(target.getAllEmployees()).thenThrow(new RateLimitExceededException("Rate limit exceeded (HTTP 429)"));
+        EmployeeApiClient client = boundedClient(timeouts(false));
+
+        // When & Then
+        RequestDeadline.after(Duration.ofSeconds(60))
+                .run(() -> assertThrows(RateLimitExceededException.class, client::getAllEmployees));
+        assertEquals(0, exceededCount("retry_skipped"));
+    }
+
+    @Test
+    void otherOperationsInRequest_DoNotCountAsRetryAttempts() {
+        // Given: a delete first looks the employee up, then is rate limited on its first attempt
+        UUID id = UUID.randomUUID();
+        when(target.getEmployeeById(id)).thenReturn(new ApiResponse<>(null, "Success"));
+        when(target.deleteEmployeeByName(eq("John Doe"), any()))
+                .thenThrow(new RateLimitExceededException("Rate limit exceeded (HTTP 429)"));
+        EmployeeApiClient client = boundedClient(timeouts(false));
+
+        // When & Then: 15s left covers the 10s before a second attempt, not the 20s before a third
+        RequestDeadline.after(Duration.ofSeconds(15)).run(() -> {
+            client.getEmployeeById(id);
+            assertThrows(RateLimitExceededException.class, () -> client.deleteEmployeeByName("John Doe", Map.of()));
+            client.getEmployeeById(id);
+            return assertThrows(
+                    DeadlineExceededException.class, () -> client.deleteEmployeeByName("John Doe", Map.of()));
+        });
+        assertEquals(1, exceededCount("retry_skipped"));
+    }
+
+    @Test
+    void propagatedDuplicates_CountAsOneAttempt() {
+        // Given
+        when(target.getEmployeeById(any())).thenThrow(new RateLimitExceededException("Rate limit exceeded (HTTP 429)"));
+        EmployeeApiClient client = boundedClient(timeouts(false));
+        UUID id = UUID.randomUUID();
+
+        // When & Then: a primary and its hedge are both the first attempt
+        RequestDeadline.after(Duration.ofSeconds(15)).run(() -> {
+            Supplier<ApiResponse<EmployeeDTO>> hedged = RequestDeadline.propagate(() -> client.getEmployeeById(id));
+            assertThrows(RateLimitExceededException.class, hedged::get);
+            return assertThrows(RateLimitExceededException.class, hedged::get);
+        });
+        assertEquals(0, exceededCount("retry_skipped"));
+    }
+
+    @Test
+    void readTimeout_IsCappedByRemainingDeadline() {
+        // Given
+        AtomicInteger readTimeoutMillis = new AtomicInteger();
+        when(target.getAllEmployees()).thenAnswer(invocation -> {
+            readTimeoutMillis.set(UpstreamTimeouts.currentReadTimeoutMillis());
+            return new ApiResponse<>(List.of(), "Success");
+        });
+        EmployeeApiClient client = boundedClient(timeouts(false));
+
+        // When
+        RequestDeadline.after(Duration.ofSeconds(3)).run(client::getAllEmployees);
+
+        // Then: get-all-employees allows 10s, but only 3s are left
+        assertTrue(readTimeoutMillis.get() > 2_000 && readTimeoutMillis.get() <= 3_000, readTimeoutMillis + "ms");
+        assertEquals(0, UpstreamTimeouts.currentReadTimeoutMillis());
+    }
+
+    @Test
+    void adaptiveTimeout_FollowsObservedP99() {
+        // Given
+        UpstreamTimeouts timeouts = timeouts(true);
+        long configured = timeouts.timeoutNanos("getEmployeeById");
+
+        // When
+        for (int i = 0; i < 256; i++) {
+            timeouts.record("getEmployeeById", TimeUnit.MILLISECONDS.toNanos(i < 250 ? 100 : 300));
+        }
+
+        // Then: twice the p99 of 300ms, below the configured 1s
+        assertEquals(TimeUnit.SECONDS.toNanos(1), configured);
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(600), timeouts.timeoutNanos("getEmployeeById"));
+        assertEquals(TimeUnit.SECONDS.toNanos(10), timeouts.timeoutNanos("getAllEmployees"));
+    }
+
+    private UpstreamTimeouts timeouts(boolean adaptive) {
+        return new UpstreamTimeouts(
+                5000,
+                Duration.ofSeconds(10),
+                Duration.ofSeconds(1),
+                Duration.ofSeconds(2),
+                Duration.ofSeconds(5),
+                adaptive,
+                2.0,
+                Duration.ofMillis(200));
+    }
+
+    private EmployeeApiClient boundedClient(UpstreamTimeouts timeouts) {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.addAspect(new UpstreamDeadlineAspect(timeouts, meterRegistry, retryRegistry));
+        return proxyFactory.getProxy();
+    }
+
+    private double exceededCount(String stage) {
+        return meterRegistry.find(UpstreamDeadlineAspect.DEADLINE_EXCEEDED)
+                .tag("stage", stage)
+                .counters()
+                .stream()
+                .mapToDouble(Counter::count)
+                .sum();
+    }
+}
@@ -0,0 +1,109 @@
+package com.reliaquest.api.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.exception.RateLimitExceededException;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.EmployeeDTO;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+class UpstreamResilienceAspectTest {
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry =
+            CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                    .slidingWindowSize(4)
+                    .minimumNumberOfCalls(4)
+                    .failureRateThreshold(50)
+                    .waitDurationInOpenState(Duration.ofMinutes(1))
+                    .recordExceptions(RateLimitExceededException.class)
+                    .ignoreExceptions(BulkheadFullException.class)
+                    .build());
+
+    private final BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+            .maxConcurrentCalls(1)
+            .maxWaitDuration(Duration.ZERO)
+            .build());
+
+    private final EmployeeApiClient target = mock(EmployeeApiClient.class);
+
+    @Test
+    void repeatedRateLimiting_OpensCircuitAndFailsFast() {
+        // Given: the mock server answering 429, which the RestClient turns into RateLimitExceededException
+        when(target.getAllEmployees()).thenThrow(new RateLimitExceededException("Rate limit exceeded (HTTP 429)"));
+        EmployeeApiClient client = guardedClient();
+
+        // When
+        for (int i = 0; i < 4; i++) {
+            assertThrows(RateLimitExceededException.class, client::getAllEmployees);
+        }
+
+        // Then
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreakerRegistry.circuitBreaker("employee-server").getState());
+        assertThrows(CallNotPermittedException.class, client::getAllEmployees);
+        assertThrows(CallNotPermittedException.class, () -> client.getEmployeeById(UUID.randomUUID()));
+        verify(target, times(4)).getAllEmployees();
+        verify(target, never()).getEmployeeById(any());
+    }
+
+    @Test
+    void successfulCalls_KeepCircuitClosed() {
+        // Given
+        when(target.getAllEmployees()).thenReturn(new ApiResponse<>(List.of(), "Success"));
+        EmployeeApiClient client = guardedClient();
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            client.getAllEmployees();
+        }
+
+        // Then
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreakerRegistry.circuitBreaker("employee-server").getState());
+        verify(target, times(10)).getAllEmployees();
+    }
+
+    @Test
+    void concurrentCallsBeyondBulkhead_AreRejected() throws Exception {
+        // Given
+        CountDownLatch inFlight = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(target.getAllEmployees()).thenAnswer(invocation -> {
+            inFlight.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new ApiResponse<>(List.of(), "Success");
+        });
+        EmployeeApiClient client = guardedClient();
+
+        // When
+        CompletableFuture<ApiResponse<List<EmployeeDTO>>> first =
+                CompletableFuture.supplyAsync(client::getAllEmployees);
+        assertTrue(inFlight.await(5, TimeUnit.SECONDS));
+
+        // Then
+        assertThrows(BulkheadFullException.class, client::getAllEmployees);
+        release.countDown();
+        assertNotNull(first.get(5, TimeUnit.SECONDS));
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreakerRegistry.circuitBreaker("employee-server").getState());
+    }
+
+    private EmployeeApiClient guardedClient() {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.addAspect(new UpstreamResilienceAspect(bulkheadRegistry, circuitBreakerRegistry));
+        return proxyFactory.getProxy();
+    }
+}
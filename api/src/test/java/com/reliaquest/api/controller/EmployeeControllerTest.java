@@ -9,6 +9,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
 import com.reliaquest.api.model.EmployeeCreateRequestDTO;
 import com.reliaquest.api.model.EmployeeDTO;
+import com.reliaquest.api.model.EmployeeQuery;
+import com.reliaquest.api.model.NameSearchMode;
 import com.reliaquest.api.service.EmployeeService;
 import java.util.Arrays;
 import java.util.List;
@@ -63,6 +65,63 @@ class EmployeeControllerTest {
                 .andExpect(jsonPath("$[0].employee_name").value("John Doe"));
     }
 
+    @Test
+    void searchEmployeesByName_Fuzzy() throws Exception {
+        // Given
+        List<EmployeeDTO> employees = Arrays.asList(createTestEmployee(UUID.randomUUID(), "John Doe", 50000));
+        when(employeeService.searchEmployeesByName("jhon", NameSearchMode.FUZZY, 5))
+                .thenReturn(employees);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/employee/search")
+                        .param("query", "jhon")
+                        .param("mode", "FUZZY")
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].employee_name").value("John Doe"));
+    }
+
+    @Test
+    void searchEmployeesByName_InvalidLimit() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/employee/search").param("query", "john").param("limit", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid input: limit must be between 1 and 100"));
+    }
+
+    @Test
+    void queryEmployees_BindsPredicates() throws Exception {
+        // Given
+        EmployeeQuery query = EmployeeQuery.builder()
+                .title("Engineer")
+                .minAge(30)
+                .maxAge(40)
+                .minSalary(150000)
+                .build();
+        List<EmployeeDTO> employees = Arrays.asList(createTestEmployee(UUID.randomUUID(), "John Doe", 160000));
+        when(employeeService.queryEmployees(query)).thenReturn(employees);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/employee/query")
+                        .param("title", "Engineer")
+                        .param("minAge", "30")
+                        .param("maxAge", "40")
+                        .param("minSalary", "150000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].employee_salary").value(160000));
+    }
+
+    @Test
+    void queryEmployees_InvalidRange() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/employee/query").param("minAge", "40").param("maxAge", "30"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid input: minAge must not exceed maxAge"));
+    }
+
     @Test
     void getEmployeeById_Success() throws Exception {
         // Given
@@ -2,14 +2,17 @@ package com.reliaquest.api.model;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.json.JsonTest;
 
 /**
- * Test to verify JSON serialization/deserialization of EmployeeDTO
+ * Test to verify JSON and Smile serialization/deserialization of EmployeeDTO
  */
 @JsonTest
 class EmployeeDTOTest {
@@ -70,4 +73,29 @@ class EmployeeDTOTest {
         assertThat(employee.getTitle()).isEqualTo("Senior Developer");
         assertThat(employee.getEmail()).isEqualTo("jane.smith@company.com");
     }
+
+    @Test
+    void shouldRoundTripRosterThroughSmile() throws Exception {
+        // Given
+        ObjectMapper smileMapper = objectMapper.copyWith(new SmileFactory());
+        EmployeeDTO employee = EmployeeDTO.builder()
+                .id(UUID.randomUUID())
+                .name("John Doe")
+                .salary(50000)
+                .age(30)
+                .title("Developer")
+                .email("john.doe@company.com")
+                .build();
+        ApiResponse<List<EmployeeDTO>> response =
+                new ApiResponse<>(List.of(employee, employee), "Successfully processed request.");
+
+        // When
+        byte[] smile = smileMapper.writeValueAsBytes(response);
+        ApiResponse<List<EmployeeDTO>> decoded = smileMapper.readValue(smile, new TypeReference<>() {});
+
+        // Then
+        assertThat(smile.length).isLessThan(objectMapper.writeValueAsBytes(response).length);
+        assertThat(decoded.getData()).containsExactly(employee, employee);
+        assertThat(decoded.getStatus()).isEqualTo("Successfully processed request.");
+    }
 }
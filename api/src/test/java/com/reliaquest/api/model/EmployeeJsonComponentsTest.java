@@ -0,0 +1,102 @@
+package com.reliaquest.api.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.JsonTest;
+
+/**
+ * Test to verify the hand-written serializers match Jackson's reflective bean serialization
+ */
+@JsonTest
+class EmployeeJsonComponentsTest {
+
+    private final ObjectMapper reflectiveMapper = new ObjectMapper();
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void shouldWriteSameJsonAsBeanSerializer() throws Exception {
+        // Given
+        EmployeeDTO employee = EmployeeDTO.builder()
+                .id(UUID.randomUUID())
+                .name("Jane \"JJ\" Smith")
+                .salary(60000)
+                .title("Senior Developer")
+                .build();
+        ExternalEmployeeDTO external = ExternalEmployeeDTO.builder()
+                .name("Jane Smith")
+                .age(25)
+                .email("jane.smith@company.com")
+                .build();
+        EmployeeCreateRequestDTO request = EmployeeCreateRequestDTO.builder()
+                .employeeName("Jane Smith")
+                .employeeSalary(60000)
+                .employeeAge(25)
+                .employeeTitle("Senior Developer")
+                .build();
+        ApiResponse<List<EmployeeDTO>> response =
+                new ApiResponse<>(List.of(employee, employee), "Successfully processed request.");
+
+        // When & Then
+        assertThat(objectMapper.writeValueAsString(employee)).isEqualTo(reflectiveMapper.writeValueAsString(employee));
+        assertThat(objectMapper.writeValueAsString(external)).isEqualTo(reflectiveMapper.writeValueAsString(external));
+        assertThat(objectMapper.writeValueAsString(request)).isEqualTo(reflectiveMapper.writeValueAsString(request));
+        assertThat(objectMapper.writeValueAsString(response)).isEqualTo(reflectiveMapper.writeValueAsString(response));
+    }
+
+    @Test
+    void shouldReadRosterResponseSkippingUnknownFields() throws Exception {
+        // Given
+        UUID id = UUID.randomUUID();
+        String json = String.format(
+                """
+                {
+                    "data": [{
+                        "id": "%s",
+                        "employee_name": "Jane Smith",
+                        "employee_salary": 60000,
+                        "employee_age": null,
+                        "employee_manager": {"id": 7, "reports": [1, 2]},
+                        "employee_email": "jane.smith@company.com"
+                    }],
+                    "status": "Successfully processed request."
+                }
+                """,
+                id.toString());
+
+        // When
+        ApiResponse<List<EmployeeDTO>> response = objectMapper.readValue(json, new TypeReference<>() {});
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo("Successfully processed request.");
+        assertThat(response.getData())
+                .containsExactly(EmployeeDTO.builder()
+                        .id(id)
+                        .name("Jane Smith")
+                        .salary(60000)
+                        .email("jane.smith@company.com")
+                        .build());
+    }
+
+    @Test
+    void shouldReadScalarEnvelopeAndCreateRequest() throws Exception {
+        // When
+        ApiResponse<Boolean> deleted =
+                objectMapper.readValue("{\"data\":true,\"status\":\"ok\"}", new TypeReference<>() {});
+        EmployeeCreateRequestDTO request = objectMapper.readValue(
+                "{\"employeeName\":\"Jane Smith\",\"employeeAge\":25}", EmployeeCreateRequestDTO.class);
+
+        // Then
+        assertThat(deleted.getData()).isTrue();
+        assertThat(request.getEmployeeName()).isEqualTo("Jane Smith");
+        assertThat(request.getEmployeeAge()).isEqualTo(25);
+        assertThat(request.getEmployeeSalary()).isNull();
+    }
+}
@@ -0,0 +1,66 @@
+package com.reliaquest.api.roster;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.EmployeeDTO;
+import com.reliaquest.api.model.EmployeeQuery;
+import java.util.Arrays;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class AttributeIndexTest {
+
+    private final AttributeIndex index = EmployeeRoster.of(Arrays.asList(
+                    createTestEmployee("Engineer", 35, 160000, "a@company.com"),
+                    createTestEmployee("Engineer", 45, 170000, "b@company.com"),
+                    createTestEmployee("engineer", 31, 120000, "c@other.org"),
+                    createTestEmployee("Manager", 38, 200000, "d@Company.com"),
+                    createTestEmployee(null, null, null, null),
+                    createTestEmployee("Engineer", 40, 150000, "e@other.org")))
+            .attributeIndex();
+
+    @Test
+    void matchingRows_IntersectsAllPredicates() {
+        // Given
+        EmployeeQuery query = EmployeeQuery.builder()
+                .title("ENGINEER")
+                .minAge(30)
+                .maxAge(40)
+                .minSalary(150000)
+                .build();
+
+        // When & Then
+        assertArrayEquals(new int[] {0, 5}, index.matchingRows(query));
+    }
+
+    @Test
+    void matchingRows_MatchesEmailDomainIgnoringCase() {
+        assertArrayEquals(
+                new int[] {0, 1, 3},
+                index.matchingRows(EmployeeQuery.builder().emailDomain("@company.COM").build()));
+        assertArrayEquals(
+                new int[] {2, 5},
+                index.matchingRows(EmployeeQuery.builder()
+                        .emailDomain("other.org")
+                        .maxSalary(150000)
+                        .build()));
+    }
+
+    @Test
+    void matchingRows_HandlesEmptyAndUnconstrainedQueries() {
+        assertArrayEquals(new int[0], index.matchingRows(EmployeeQuery.builder().title("Designer").build()));
+        assertArrayEquals(new int[0], index.matchingRows(EmployeeQuery.builder().minAge(50).maxAge(40).build()));
+        assertArrayEquals(new int[] {0, 1, 2, 3, 4, 5}, index.matchingRows(new EmployeeQuery()));
+    }
+
+    private EmployeeDTO createTestEmployee(String title, Integer age, Integer salary, String email) {
+        return EmployeeDTO.builder()
+                .id(UUID.randomUUID())
+                .name("Test Employee")
+                .salary(salary)
+                .age(age)
+                .title(title)
+                .email(email)
+                .build();
+    }
+}
@@ -0,0 +1,236 @@
+package com.reliaquest.api.roster;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.EmployeeDTO;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+class EmployeeRosterCacheTest {
+
+    private static final int BASE_SIZE = 100;
+
+    private final EmployeeRosterCache rosterCache = new EmployeeRosterCache(Duration.ofMinutes(1));
+
+    @Test
+    void restore_IsFreshForTimeToLiveButAgesFromBuildTime() {
+        // Given: a roster restored from a snapshot of a fetch 30s ago
+        Instant now = Instant.parse("2024-01-01T00:00:00Z");
+        EmployeeRosterCache cache = new EmployeeRosterCache(Duration.ofSeconds(10), Clock.fixed(now, ZoneOffset.UTC));
+        EmployeeRoster roster = EmployeeRoster.of(List.of(employee("Base 0", 100)));
+
+        // When
+        cache.restore(roster, now.minusSeconds(30));
+
+        // Then
+        assertTrue(cache.isFresh());
+        assertSame(roster, cache.getIfFresh().orElseThrow());
+        assertEquals(now.minusSeconds(30), cache.peekIfFresh().orElseThrow().builtAt());
+        assertEquals(Duration.ofSeconds(30), cache.getLastGood().orElseThrow().age());
+    }
+
+    @Test
+    void peekIfFresh_DoesNotCountAsRead() {
+        // Given
+        EmployeeRoster roster = rosterCache.refresh(List.of(employee("Base 0", 100)));
+
+        // When
+        EmployeeRoster peeked = rosterCache.peekIfFresh().orElseThrow().roster();
+
+        // Then
+        assertSame(roster, peeked);
+        assertFalse(rosterCache.wasReadSincePublish());
+        rosterCache.getIfFresh();
+        assertTrue(rosterCache.wasReadSincePublish());
+    }
+
+    @Test
+    void update_AppliesToCachedAndLastGoodRoster() {
+        // Given
+        rosterCache.refresh(List.of(employee("Base 0", 100)));
+        EmployeeRoster before = rosterCache.getIfFresh().orElseThrow();
+
+        // When
+        rosterCache.update(roster -> roster.withAdded(employee("Added", 200)));
+
+        // Then
+        EmployeeRoster after = rosterCache.getIfFresh().orElseThrow();
+        assertEquals(1, before.size());
+        assertEquals(2, after.size());
+        assertEquals(200, after.maxSalary());
+        assertSame(after, rosterCache.getLastGood().orElseThrow().roster());
+        assertEquals(1, rosterCache.writeCount());
+    }
+
+    @Test
+    void update_WithoutCachedRosterOnlyCountsWrite() {
+        // When
+        rosterCache.update(roster -> roster.withAdded(employee("Added", 200)));
+
+        // Then
+        assertTrue(rosterCache.getIfFresh().isEmpty());
+        assertTrue(rosterCache.getLastGood().isEmpty());
+        assertEquals(1, rosterCache.writeCount());
+    }
+
+    @Test
+    void refresh_FetchedAcrossWrite_IsReturnedButNotPublished() {
+        // Given
+        rosterCache.refresh(List.of(employee("Base 0", 100)));
+        long writesBefore = rosterCache.writeCount();
+        rosterCache.update(roster -> roster.withAdded(employee("Added", 200)));
+
+        // When
+        EmployeeRoster fetched = rosterCache.refresh(List.of(employee("Base 0", 100)), writesBefore);
+
+        // Then
+        assertEquals(1, fetched.size());
+        assertEquals(2, rosterCache.getIfFresh().orElseThrow().size());
+    }
+
+    @Test
+    void concurrentReadersAndWriters_NeverSeePartialUpdates() throws Exception {
+        // Given: base rows are never removed; each writer adds and then removes its own rows
+        List<EmployeeDTO> base = new ArrayList<>();
+        for (int i = 0; i < BASE_SIZE; i++) {
+            base.add(employee("Base " + i, 1000 + i));
+        }
+        rosterCache.refresh(base);
+        int writers = 4;
+        int readers = 4;
+        int writesPerWriter = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(writers + readers);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+
+        try {
+            List<Future<?>> writes = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                String prefix = "Writer " + w + " ";
+                writes.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < writesPerWriter; i++) {
+                        EmployeeDTO added = employee(prefix + i, 5000);
+                        rosterCache.update(roster -> roster.withAdded(added));
+                        rosterCache.update(roster -> {
+                            int row = roster.rowOfNameIgnoreCase(added.getName());
+                            return row >= 0 ? roster.withoutRow(row) : roster;
+                        });
+                    }
+                    return null;
+                }));
+            }
+            List<Future<Integer>> reads = new ArrayList<>();
+            for (int r = 0; r < readers; r++) {
+                reads.add(executor.submit(() -> {
+                    start.await();
+                    int checked = 0;
+                    while (writing.get() || checked == 0) {
+                        assertConsistent(rosterCache.getIfFresh().orElseThrow());
+                        checked++;
+                    }
+                    return checked;
+                }));
+            }
+
+            // When
+            start.countDown();
+            for (Future<?> write : writes) {
+                write.get(30, TimeUnit.SECONDS);
+            }
+            writing.set(false);
+
+            // Then
+            for (Future<Integer> read : reads) {
+                assertTrue(read.get(30, TimeUnit.SECONDS) > 0);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        EmployeeRoster roster = rosterCache.getIfFresh().orElseThrow();
+        assertEquals(BASE_SIZE, roster.size());
+        assertEquals(1000 + BASE_SIZE - 1, roster.maxSalary());
+        assertSame(roster, rosterCache.getLastGood().orElseThrow().roster());
+        assertEquals(2L * writers * writesPerWriter, rosterCache.writeCount());
+    }
+
+    @Test
+    void refreshFetchedBeforeConcurrentWrite_NeverDropsTheWrite() throws Exception {
+        // Given: each round races a create against publishing a fetch that started before it
+        List<EmployeeDTO> base = List.of(employee("Base 0", 1000));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            for (int round = 0; round < 2_000; round++) {
+                EmployeeRosterCache cache = new EmployeeRosterCache(Duration.ofMinutes(1));
+                cache.refresh(base);
+                long writesBefore = cache.writeCount();
+                EmployeeDTO added = employee("Added " + round, 5000);
+                CountDownLatch start = new CountDownLatch(1);
+
+                // When
+                Future<?> write = executor.submit(() -> {
+                    start.await();
+                    cache.update(roster -> roster.withAdded(added));
+                    return null;
+                });
+                Future<?> refresh = executor.submit(() -> {
+                    start.await();
+                    cache.refresh(base, writesBefore);
+                    return null;
+                });
+                start.countDown();
+                write.get(30, TimeUnit.SECONDS);
+                refresh.get(30, TimeUnit.SECONDS);
+
+                // Then
+                EmployeeRoster roster = cache.getIfFresh().orElseThrow();
+                assertTrue(roster.rowOf(added.getId()) >= 0, "write lost in round " + round);
+                assertSame(roster, cache.getLastGood().orElseThrow().roster());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Every column, index and aggregate of the roster agrees on which rows it holds
+     */
+    private static void assertConsistent(EmployeeRoster roster) {
+        int added = roster.size() - BASE_SIZE;
+        assertTrue(added >= 0, "base rows missing");
+        assertEquals(BASE_SIZE, roster.rowsWithNameContaining("base").length);
+        assertEquals(added, roster.rowsWithNameContaining("writer").length);
+        assertEquals(added, roster.nameSearchIndex().prefixMatches("writer", roster.size()).length);
+        assertEquals(added > 0 ? 5000 : 1000 + BASE_SIZE - 1, roster.maxSalary());
+        for (int row = 0; row < roster.size(); row++) {
+            EmployeeDTO employee = roster.employeeAt(row);
+            assertNotNull(employee.getName());
+            assertEquals(row, roster.rowOf(employee.getId()));
+            assertEquals("company.com", roster.emailDomainAt(row));
+        }
+    }
+
+    private static EmployeeDTO employee(String name, int salary) {
+        return EmployeeDTO.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(salary)
+                .age(30)
+                .title("Test Title")
+                .email("test@company.com")
+                .build();
+    }
+}
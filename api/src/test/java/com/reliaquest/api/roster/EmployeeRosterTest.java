@@ -0,0 +1,192 @@
+package com.reliaquest.api.roster;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.EmployeeDTO;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class EmployeeRosterTest {
+
+    @Test
+    void employeeAt_RoundTripsAllColumns() {
+        // Given
+        UUID id = UUID.randomUUID();
+        EmployeeDTO employee = EmployeeDTO.builder()
+                .id(id)
+                .name("John Doe")
+                .salary(50000)
+                .age(30)
+                .title("Developer")
+                .email("john@company.com")
+                .build();
+
+        // When
+        EmployeeRoster roster = EmployeeRoster.of(List.of(employee, EmployeeDTO.builder().build()));
+
+        // Then
+        assertEquals(employee, roster.employeeAt(0));
+        assertEquals(EmployeeDTO.builder().build(), roster.employeeAt(1));
+    }
+
+    @Test
+    void emailAt_RoundTripsPackedNamesAndEmails() {
+        // Given
+        List<String> emails = Arrays.asList(
+                "john@company.com", null, "no-at-sign", "trailing@", "x@y@Company.COM", "z\u00fc@stra\u00dfe.de", "");
+        List<EmployeeDTO> employees = emails.stream()
+                .map(email -> EmployeeDTO.builder()
+                        .name(email == null ? null : "Zo\u00eb " + email)
+                        .email(email)
+                        .build())
+                .toList();
+
+        // When
+        EmployeeRoster roster = EmployeeRoster.of(employees);
+
+        // Then
+        for (int row = 0; row < employees.size(); row++) {
+            assertEquals(employees.get(row), roster.employeeAt(row));
+        }
+        assertEquals("company.com", roster.emailDomainAt(0));
+        assertNull(roster.emailDomainAt(1));
+        assertNull(roster.emailDomainAt(2));
+        assertEquals("Company.COM", roster.emailDomainAt(4));
+    }
+
+    @Test
+    void maxSalary_IgnoresMissingSalaries() {
+        // Given
+        EmployeeRoster roster = EmployeeRoster.of(Arrays.asList(
+                createTestEmployee("John Doe", null), createTestEmployee("Jane Smith", 60000)));
+
+        // When & Then
+        assertEquals(60000, roster.maxSalary());
+        assertEquals(EmployeeRoster.NO_VALUE, EmployeeRoster.of(List.of()).maxSalary());
+    }
+
+    @Test
+    void topSalaryRows_OrdersBySalaryAndKeepsRosterOrderForTies() {
+        // Given
+        EmployeeRoster roster = EmployeeRoster.of(Arrays.asList(
+                createTestEmployee("A", 10),
+                createTestEmployee("B", 30),
+                createTestEmployee(null, 90),
+                createTestEmployee("C", 20),
+                createTestEmployee("D", 30),
+                createTestEmployee("E", null)));
+
+        // When & Then
+        assertArrayEquals(new int[] {1, 4, 3}, roster.topSalaryRows(3));
+        assertArrayEquals(new int[] {1, 4, 3, 0}, roster.topSalaryRows(10));
+        assertArrayEquals(new int[0], roster.topSalaryRows(0));
+    }
+
+    @Test
+    void rowsWithNameContaining_IgnoresCase() {
+        // Given
+        EmployeeRoster roster = EmployeeRoster.of(Arrays.asList(
+                createTestEmployee("John Doe", 1), createTestEmployee(null, 2), createTestEmployee("Al JOHNSON", 3)));
+
+        // When & Then
+        assertArrayEquals(new int[] {0, 2}, roster.rowsWithNameContaining("john"));
+        assertArrayEquals(new int[0], roster.rowsWithNameContaining("smith"));
+    }
+
+    @Test
+    void rowsWithNameContaining_FoldsCaseIndependentlyOfDefaultLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        try {
+            // Given - "\u0130smail Y\u0131ld\u0131z" uses the Turkish dotted capital I and dotless small i
+            EmployeeRoster roster = EmployeeRoster.of(Arrays.asList(
+                    createTestEmployee("\u0130smail Y\u0131ld\u0131z", 1), createTestEmployee("ISABEL Diaz", 2)));
+
+            // When & Then
+            assertArrayEquals(new int[] {0}, roster.rowsWithNameContaining("ismail"));
+            assertArrayEquals(new int[] {0}, roster.rowsWithNameContaining("YILDIZ"));
+            assertArrayEquals(new int[] {1}, roster.rowsWithNameContaining("isabel"));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    void withAdded_AppendsRowAndLeavesOriginalUnchanged() {
+        // Given
+        EmployeeRoster roster = EmployeeRoster.of(List.of(createTestEmployee("John Doe", 50000)));
+        EmployeeDTO added = EmployeeDTO.builder()
+                .id(UUID.randomUUID())
+                .name("Jane Smith")
+                .salary(90000)
+                .title("New Title")
+                .email("jane@other.org")
+                .build();
+
+        // When
+        EmployeeRoster updated = roster.withAdded(added);
+
+        // Then
+        assertEquals(1, roster.size());
+        assertEquals(2, updated.size());
+        assertEquals(added, updated.employeeAt(1));
+        assertEquals(roster.employeeAt(0), updated.employeeAt(0));
+        assertEquals("other.org", updated.emailDomainAt(1));
+        assertEquals(90000, updated.maxSalary());
+        assertEquals(1, updated.rowOf(added.getId()));
+        assertArrayEquals(new int[] {1}, updated.rowsWithNameContaining("jane"));
+        assertArrayEquals(new int[0], roster.rowsWithNameContaining("jane"));
+    }
+
+    @Test
+    void withoutRow_RemovesRowAndShiftsLaterRows() {
+        // Given
+        List<EmployeeDTO> employees = Arrays.asList(
+                createTestEmployee("John Doe", 50000),
+                createTestEmployee(null, 90000),
+                createTestEmployee("Jane Smith", 60000),
+                EmployeeDTO.builder().name("Al Johnson").build());
+        EmployeeRoster roster = EmployeeRoster.of(employees);
+
+        // When
+        EmployeeRoster updated = roster.withoutRow(1);
+
+        // Then
+        assertEquals(4, roster.size());
+        assertEquals(3, updated.size());
+        assertEquals(employees.get(0), updated.employeeAt(0));
+        assertEquals(employees.get(2), updated.employeeAt(1));
+        assertEquals(employees.get(3), updated.employeeAt(2));
+        assertEquals(60000, updated.maxSalary());
+        assertEquals(-1, updated.rowOf(employees.get(1).getId()));
+        assertArrayEquals(new int[] {0, 2}, updated.rowsWithNameContaining("john"));
+    }
+
+    @Test
+    void rowOfNameIgnoreCase_ReturnsFirstMatchInAnyCase() {
+        // Given
+        EmployeeRoster roster = EmployeeRoster.of(Arrays.asList(
+                createTestEmployee(null, 1),
+                createTestEmployee("ZO\u00cb DOE", 2),
+                createTestEmployee("Zo\u00eb Doe", 3)));
+
+        // When & Then
+        assertEquals(1, roster.rowOfNameIgnoreCase("Zo\u00eb Doe"));
+        assertEquals(1, roster.rowOfNameIgnoreCase("zo\u00eb doe"));
+        assertEquals(-1, roster.rowOfNameIgnoreCase("Zo\u00eb"));
+    }
+
+    private EmployeeDTO createTestEmployee(String name, Integer salary) {
+        return EmployeeDTO.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(salary)
+                .age(30)
+                .title("Test Title")
+                .email("test@company.com")
+                .build();
+    }
+}
@@ -0,0 +1,48 @@
+package com.reliaquest.api.roster;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.EmployeeDTO;
+import java.util.Arrays;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class NameSearchIndexTest {
+
+    private final NameSearchIndex index = EmployeeRoster.of(Arrays.asList(
+                    createTestEmployee("John Smith"),
+                    createTestEmployee("Johnny Cash"),
+                    createTestEmployee("Jon Smyth"),
+                    createTestEmployee("Anna Johnson"),
+                    createTestEmployee("John"),
+                    createTestEmployee(null),
+                    createTestEmployee("Smith John")))
+            .nameSearchIndex();
+
+    @Test
+    void prefixMatches_RanksFullNamesBeforeWordsAlphabetically() {
+        assertArrayEquals(new int[] {4, 0, 1, 6, 3}, index.prefixMatches("JOHN", 10));
+        assertArrayEquals(new int[] {4, 0}, index.prefixMatches("john", 2));
+        assertArrayEquals(new int[] {0}, index.prefixMatches("john s", 10));
+        assertArrayEquals(new int[0], index.prefixMatches("  ", 10));
+    }
+
+    @Test
+    void fuzzyMatches_ToleratesTyposAndRanksByDistance() {
+        // "jhon" is one transposition from "john" and one deletion from "jon"
+        assertArrayEquals(new int[] {0, 6, 2}, index.fuzzyMatches("jhon smith", 10));
+        assertArrayEquals(new int[] {2, 0, 6}, index.fuzzyMatches("smyth", 10));
+        assertArrayEquals(new int[0], index.fuzzyMatches("zzzzzz", 10));
+    }
+
+    @Test
+    void distance_CountsTranspositionsAndStopsAtLimit() {
+        assertEquals(1, NameSearchIndex.distance("jhon", "john", 2));
+        assertEquals(3, NameSearchIndex.distance("kitten", "sitting", 3));
+        assertEquals(3, NameSearchIndex.distance("abcdef", "uvwxyz", 2));
+    }
+
+    private EmployeeDTO createTestEmployee(String name) {
+        return EmployeeDTO.builder().id(UUID.randomUUID()).name(name).build();
+    }
+}
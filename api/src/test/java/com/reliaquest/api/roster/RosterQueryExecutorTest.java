@@ -0,0 +1,54 @@
+package com.reliaquest.api.roster;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.EmployeeDTO;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RosterQueryExecutorTest {
+
+    private final RosterQueryExecutor sequential = new RosterQueryExecutor(Integer.MAX_VALUE, 1000, 1);
+
+    private final RosterQueryExecutor parallel = new RosterQueryExecutor(0, 777, 4);
+
+    @AfterEach
+    void tearDown() {
+        sequential.destroy();
+        parallel.destroy();
+    }
+
+    @Test
+    void parallelScans_MatchSequentialResults() {
+        // Given
+        Random random = new Random(7);
+        List<EmployeeDTO> employees = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            employees.add(EmployeeDTO.builder()
+                    .name(random.nextInt(50) == 0 ? null : "Employee " + i)
+                    .salary(random.nextInt(20) == 0 ? null : random.nextInt(1000))
+                    .build());
+        }
+        EmployeeRoster roster = EmployeeRoster.of(employees);
+
+        // When & Then
+        assertEquals(sequential.maxSalary(roster), parallel.maxSalary(roster));
+        assertArrayEquals(sequential.topSalaryRows(roster, 10), parallel.topSalaryRows(roster, 10));
+        assertArrayEquals(
+                sequential.rowsWithNameContaining(roster, "EE 12"), parallel.rowsWithNameContaining(roster, "EE 12"));
+    }
+
+    @Test
+    void parallelScans_HandleEmptyRoster() {
+        // Given
+        EmployeeRoster roster = EmployeeRoster.of(List.of());
+
+        // When & Then
+        assertEquals(EmployeeRoster.NO_VALUE, parallel.maxSalary(roster));
+        assertArrayEquals(new int[0], parallel.topSalaryRows(roster, 10));
+        assertArrayEquals(new int[0], parallel.rowsWithNameContaining(roster, "john"));
+    }
+}
@@ -0,0 +1,250 @@
+package com.reliaquest.api.roster;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.client.RateLimitWindow;
+import com.reliaquest.api.exception.RateLimitExceededException;
+import com.reliaquest.api.model.EmployeeDTO;
+import com.reliaquest.api.service.EmployeeService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RosterRefresherTest {
+
+    private static final Duration TTL = Duration.ofSeconds(10);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MutableClock clock = new MutableClock();
+    private final EmployeeRosterCache rosterCache = new EmployeeRosterCache(TTL, clock);
+    private final RateLimitWindow rateLimitWindow = new RateLimitWindow(Duration.ofSeconds(30));
+    private final EmployeeService employeeService = mock(EmployeeService.class);
+
+    // no jitter, so the returned delays are exact
+    private final RosterRefresher refresher = new RosterRefresher(
+            employeeService,
+            rosterCache,
+            rateLimitWindow,
+            meterRegistry,
+            TTL,
+            0.8,
+            0,
+            Duration.ofSeconds(5),
+            Duration.ofSeconds(5));
+
+    @AfterEach
+    void tearDown() {
+        refresher.destroy();
+    }
+
+    @Test
+    void warmUp_FetchesEvenWhenRosterIsFresh() {
+        // Given: a roster restored from a snapshot
+        rosterCache.refresh(List.of(employee()));
+        fetchPublishesRoster();
+
+        // When
+        long delayNanos = refresher.refreshIfDue(true);
+
+        // Then
+        verify(employeeService).getAllEmployees();
+        assertEquals(Duration.ofSeconds(8).toNanos(), delayNanos);
+        assertEquals(1, resultCount("refreshed"));
+    }
+
+    @Test
+    void rosterReadSincePublish_IsRefreshedAheadOfExpiry() {
+        // Given
+        rosterCache.refresh(List.of(employee()));
+        rosterCache.getIfFresh();
+        clock.advance(Duration.ofSeconds(8));
+        fetchPublishesRoster();
+
+        // When
+        refresher.refreshIfDue(false);
+
+        // Then
+        verify(employeeService).getAllEmployees();
+        assertTrue(rosterCache.isFresh());
+        assertFalse(rosterCache.wasReadSincePublish());
+    }
+
+    @Test
+    void unreadRoster_IsLeftToExpire() {
+        // Given
+        rosterCache.refresh(List.of(employee()));
+        clock.advance(Duration.ofSeconds(8));
+
+        // When
+        refresher.refreshIfDue(false);
+
+        // Then
+        verify(employeeService, never()).getAllEmployees();
+        assertEquals(1, resultCount("skipped_idle"));
+    }
+
+    @Test
+    void recentlyRefreshedRoster_IsCheckedAgainLater() {
+        // Given: a reader refreshed the roster 3s ago
+        rosterCache.refresh(List.of(employee()));
+        rosterCache.getIfFresh();
+        clock.advance(Duration.ofSeconds(3));
+
+        // When
+        long delayNanos = refresher.refreshIfDue(false);
+
+        // Then
+        verify(employeeService, never()).getAllEmployees();
+        assertEquals(Duration.ofSeconds(5).toNanos(), delayNanos);
+    }
+
+    @Test
+    void rateLimitedUpstream_DelaysFetchUntilWindowCloses() {
+        // Given
+        rateLimitWindow.rateLimited();
+
+        // When
+        long delayNanos = refresher.refreshIfDue(true);
+
+        // Then
+        verify(employeeService, never()).getAllEmployees();
+        assertTrue(delayNanos > Duration.ofSeconds(29).toNanos(), delayNanos + "ns");
+        assertEquals(1, resultCount("rate_limited"));
+    }
+
+    @Test
+    void failedFetch_IsRetriedAfterRetryDelay() {
+        // Given
+        when(employeeService.getAllEmployees()).thenThrow(new RateLimitExceededException("Rate limit exceeded"));
+
+        // When
+        long delayNanos = refresher.refreshIfDue(true);
+
+        // Then
+        assertEquals(Duration.ofSeconds(5).toNanos(), delayNanos);
+        assertEquals(1, resultCount("failed"));
+    }
+
+    @Test
+    void failedFetchAcrossWrite_CountsAsFailed() {
+        // Given: a create lands while the fetch fails, replacing the last good roster
+        rosterCache.refresh(List.of(employee()));
+        when(employeeService.getAllEmployees()).thenAnswer(invocation -> {
+            rosterCache.update(roster -> roster.withAdded(employee()));
+            throw new RateLimitExceededException("Rate limit exceeded");
+        });
+
+        // When
+        long delayNanos = refresher.refreshIfDue(true);
+
+        // Then
+        assertEquals(Duration.ofSeconds(5).toNanos(), delayNanos);
+        assertEquals(1, resultCount("failed"));
+        assertEquals(0, resultCount("refreshed"));
+    }
+
+    @Test
+    void fetch_RunsWithStaleReadsOff() {
+        // Given
+        rosterCache.refresh(List.of(employee()));
+        StaleRosterReads staleRosterReads = new StaleRosterReads(meterRegistry, Duration.ofHours(1));
+        RateLimitExceededException rateLimited = new RateLimitExceededException("Rate limit exceeded");
+        EmployeeRosterCache.StaleRoster stale = rosterCache.getLastGood().orElseThrow();
+        AtomicBoolean canServeDuringFetch = new AtomicBoolean(true);
+        when(employeeService.getAllEmployees()).thenAnswer(invocation -> {
+            canServeDuringFetch.set(staleRosterReads.canServe(rateLimited, stale));
+            List<EmployeeDTO> employees = List.of(employee());
+            rosterCache.refresh(employees);
+            return employees;
+        });
+
+        // When
+        refresher.refreshIfDue(true);
+
+        // Then
+        assertFalse(canServeDuringFetch.get());
+        assertTrue(staleRosterReads.canServe(rateLimited, stale));
+        assertEquals(1, resultCount("refreshed"));
+    }
+
+    @Test
+    void fetchRacingWrite_IsDiscardedAndRetriedAfterRetryDelay() {
+        // Given: a create lands during the fetch, so the cache does not publish it
+        rosterCache.refresh(List.of(employee()));
+        when(employeeService.getAllEmployees()).thenAnswer(invocation -> {
+            long writesBefore = rosterCache.writeCount();
+            List<EmployeeDTO> employees = List.of(employee());
+            rosterCache.update(roster -> roster.withAdded(employee()));
+            rosterCache.refresh(employees, writesBefore);
+            return employees;
+        });
+
+        // When
+        long delayNanos = refresher.refreshIfDue(true);
+
+        // Then
+        assertEquals(Duration.ofSeconds(5).toNanos(), delayNanos);
+        assertEquals(1, resultCount("discarded"));
+        assertEquals(0, resultCount("refreshed"));
+    }
+
+    private void fetchPublishesRoster() {
+        when(employeeService.getAllEmployees()).thenAnswer(invocation -> {
+            List<EmployeeDTO> employees = List.of(employee());
+            rosterCache.refresh(employees);
+            return employees;
+        });
+    }
+
+    private double resultCount(String result) {
+        return meterRegistry
+                .get(RosterRefresher.ROSTER_REFRESHES)
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+    private static EmployeeDTO employee() {
+        return EmployeeDTO.builder()
+                .id(UUID.randomUUID())
+                .name("John Doe")
+                .salary(50000)
+                .age(30)
+                .title("Test Title")
+                .email("test@company.com")
+                .build();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.reliaquest.api.roster;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.reliaquest.api.model.EmployeeDTO;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RosterSnapshotStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void write_ThenRead_RestoresRoster() throws IOException {
+        // Given
+        List<EmployeeDTO> employees = Arrays.asList(
+                createTestEmployee(UUID.randomUUID(), "Zo\u00eb \u00c5ngstr\u00f6m", 120000, "Engineer"),
+                createTestEmployee(null, null, null, null),
+                createTestEmployee(UUID.randomUUID(), "John Doe", 90000, "Engineer"));
+        RosterSnapshotStore store = new RosterSnapshotStore(directory.resolve("nested/roster.snapshot"));
+        Instant builtAt = Instant.ofEpochMilli(1_700_000_000_000L);
+
+        // When
+        store.write(EmployeeRoster.of(employees), builtAt);
+        Optional<RosterSnapshotStore.Snapshot> snapshot = store.read();
+
+        // Then
+        assertTrue(snapshot.isPresent());
+        assertEquals(builtAt, snapshot.get().builtAt());
+        EmployeeRoster roster = snapshot.get().roster();
+        assertEquals(employees.size(), roster.size());
+        for (int row = 0; row < employees.size(); row++) {
+            assertEquals(employees.get(row), roster.employeeAt(row));
+        }
+        assertArrayEquals(new int[] {0}, roster.rowsWithNameContaining("ZO\u00cb"));
+    }
+
+    @Test
+    void write_CreatesFileAndDirectoryReadableByOwnerOnly() throws IOException {
+        // Given
+        assumeTrue(directory.getFileSystem().supportedFileAttributeViews().contains("posix"));
+        Path path = directory.resolve("nested/roster.snapshot");
+        RosterSnapshotStore store = new RosterSnapshotStore(path);
+
+        // When
+        store.write(
+                EmployeeRoster.of(List.of(createTestEmployee(UUID.randomUUID(), "John Doe", 90000, "Engineer"))),
+                Instant.now());
+
+        // Then
+        assertEquals(PosixFilePermissions.fromString("rw-------"), Files.getPosixFilePermissions(path));
+        assertEquals(PosixFilePermissions.fromString("rwx------"), Files.getPosixFilePermissions(path.getParent()));
+    }
+
+    @Test
+    void read_MissingFile_ReturnsEmpty() {
+        assertTrue(new RosterSnapshotStore(directory.resolve("missing.snapshot")).read().isEmpty());
+    }
+
+    @Test
+    void read_CorruptFile_ReturnsEmpty() throws IOException {
+        // Given
+        Path path = directory.resolve("roster.snapshot");
+        RosterSnapshotStore store = new RosterSnapshotStore(path);
+        store.write(
+                EmployeeRoster.of(List.of(createTestEmployee(UUID.randomUUID(), "John Doe", 90000, "Engineer"))),
+                Instant.now());
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(path, bytes);
+
+        // When & Then
+        assertTrue(store.read().isEmpty());
+    }
+
+    @Test
+    void read_TruncatedFile_ReturnsEmpty() throws IOException {
+        // Given
+        Path path = directory.resolve("roster.snapshot");
+        Files.write(path, new byte[] {0x52, 0x51});
+
+        // When & Then
+        assertTrue(new RosterSnapshotStore(path).read().isEmpty());
+    }
+
+    private EmployeeDTO createTestEmployee(UUID id, String name, Integer salary, String title) {
+        return EmployeeDTO.builder()
+                .id(id)
+                .name(name)
+                .salary(salary)
+                .age(30)
+                .title(title)
+                .email(name != null ? "employee@company.com" : null)
+                .build();
+    }
+}
@@ -5,19 +5,28 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.client.HedgedRequests;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
 import com.reliaquest.api.model.ApiResponse;
 import com.reliaquest.api.model.EmployeeCreateRequestDTO;
 import com.reliaquest.api.model.EmployeeDTO;
 import com.reliaquest.api.model.ExternalEmployeeDTO;
+import com.reliaquest.api.model.NameSearchMode;
+import com.reliaquest.api.roster.EmployeeRosterCache;
+import com.reliaquest.api.roster.RosterQueryExecutor;
+import com.reliaquest.api.roster.StaleRosterReads;
 import com.reliaquest.api.service.impl.EmployeeServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.web.client.HttpClientErrorException;
 
@@ -27,9 +36,28 @@ class EmployeeServiceTest {
     @Mock
     private EmployeeApiClient employeeApiClient;
 
+    @Spy
+    private EmployeeRosterCache rosterCache = new EmployeeRosterCache(Duration.ofMinutes(1));
+
+    @Spy
+    private RosterQueryExecutor rosterQueryExecutor = new RosterQueryExecutor(100000, 25000, 1);
+
+    @Spy
+    private StaleRosterReads staleRosterReads = new StaleRosterReads(new SimpleMeterRegistry(), Duration.ofHours(1));
+
+    @Spy
+    private HedgedRequests hedgedRequests =
+            new HedgedRequests(new SimpleMeterRegistry(), false, 0.95, Duration.ofMillis(10), 0.05, 4);
+
     @InjectMocks
     private EmployeeServiceImpl employeeService;
 
+    @AfterEach
+    void tearDown() {
+        rosterQueryExecutor.destroy();
+        hedgedRequests.destroy();
+    }
+
     @Test
     void getAllEmployees_Success() {
         // Given
@@ -108,6 +136,26 @@ class EmployeeServiceTest {
         assertTrue(result.stream().allMatch(emp -> emp.getName().contains("John")));
     }
 
+    @Test
+    void searchEmployeesByName_RanksFuzzyMatches() {
+        // Given
+        List<EmployeeDTO> employees = Arrays.asList(
+                createTestEmployee(UUID.randomUUID(), "Jon Smyth", 50000),
+                createTestEmployee(UUID.randomUUID(), "Jane Smith", 60000),
+                createTestEmployee(UUID.randomUUID(), "John Smith", 55000));
+        ApiResponse<List<EmployeeDTO>> apiResponse = new ApiResponse<>(employees, "Success");
+
+        when(employeeApiClient.getAllEmployees()).thenReturn(apiResponse);
+
+        // When
+        List<EmployeeDTO> result = employeeService.searchEmployeesByName("jhon smith", NameSearchMode.FUZZY, 10);
+
+        // Then
+        assertEquals(2, result.size());
+        assertEquals("John Smith", result.get(0).getName());
+        assertEquals("Jon Smyth", result.get(1).getName());
+    }
+
     @Test
     void getHighestSalaryOfEmployees_Success() {
         // Given
@@ -149,6 +197,28 @@ class EmployeeServiceTest {
         assertEquals("John Doe", result.get(3)); // Lowest salary
     }
 
+    @Test
+    void aggregations_ReuseCachedRosterUntilWrite() {
+        // Given
+        List<EmployeeDTO> employees = Arrays.asList(
+                createTestEmployee(UUID.randomUUID(), "John Doe", 50000),
+                createTestEmployee(UUID.randomUUID(), "Jane Smith", 75000));
+        ApiResponse<List<EmployeeDTO>> apiResponse = new ApiResponse<>(employees, "Success");
+
+        when(employeeApiClient.getAllEmployees()).thenReturn(apiResponse);
+
+        // When
+        Integer highestSalary = employeeService.getHighestSalaryOfEmployees();
+        List<String> topNames = employeeService.getTopTenHighestEarningEmployeeNames();
+        List<EmployeeDTO> matches = employeeService.getEmployeesByNameSearch("jane");
+
+        // Then
+        assertEquals(75000, highestSalary);
+        assertEquals(List.of("Jane Smith", "John Doe"), topNames);
+        assertEquals(1, matches.size());
+        verify(employeeApiClient, times(1)).getAllEmployees();
+    }
+
     @Test
     void createEmployee_Success() {
         // Given
@@ -191,6 +261,60 @@ class EmployeeServiceTest {
         assertEquals("John Doe", result);
     }
 
+    @Test
+    void createAndDelete_UpdateCachedRosterWithoutRefetching() {
+        // Given
+        UUID johnId = UUID.randomUUID();
+        EmployeeDTO john = createTestEmployee(johnId, "John Doe", 50000);
+        when(employeeApiClient.getAllEmployees())
+                .thenReturn(new ApiResponse<>(
+                        List.of(john, createTestEmployee(UUID.randomUUID(), "Jane Smith", 60000)), "Success"));
+        when(employeeApiClient.createEmployee(any(ExternalEmployeeDTO.class)))
+                .thenReturn(new ApiResponse<>(createTestEmployee(UUID.randomUUID(), "Johnny Rich", 90000), "Success"));
+        when(employeeApiClient.getEmployeeById(johnId)).thenReturn(new ApiResponse<>(john, "Success"));
+        when(employeeApiClient.deleteEmployeeByName(eq("John Doe"), any()))
+                .thenReturn(new ApiResponse<>(true, "Success"));
+        employeeService.getAllEmployees();
+
+        // When
+        employeeService.createEmployee(EmployeeCreateRequestDTO.builder()
+                .employeeName("Johnny Rich")
+                .employeeSalary(90000)
+                .employeeAge(30)
+                .employeeTitle("Test Title")
+                .build());
+        Integer highestAfterCreate = employeeService.getHighestSalaryOfEmployees();
+        employeeService.deleteEmployeeById(johnId);
+        List<EmployeeDTO> johnsAfterDelete = employeeService.getEmployeesByNameSearch("john");
+
+        // Then
+        assertEquals(90000, highestAfterCreate);
+        assertEquals(List.of("Johnny Rich"), johnsAfterDelete.stream().map(EmployeeDTO::getName).toList());
+        verify(employeeApiClient, times(1)).getAllEmployees();
+    }
+
+    @Test
+    void deleteEmployeeById_RemovesFirstNameMatchInAnyCaseFromCachedRoster() {
+        // Given: the mock API deletes the earlier "JOHN DOE", not the "John Doe" with the id
+        UUID johnId = UUID.randomUUID();
+        EmployeeDTO john = createTestEmployee(johnId, "John Doe", 50000);
+        when(employeeApiClient.getAllEmployees())
+                .thenReturn(new ApiResponse<>(
+                        List.of(createTestEmployee(UUID.randomUUID(), "JOHN DOE", 60000), john), "Success"));
+        when(employeeApiClient.getEmployeeById(johnId)).thenReturn(new ApiResponse<>(john, "Success"));
+        when(employeeApiClient.deleteEmployeeByName(eq("John Doe"), any()))
+                .thenReturn(new ApiResponse<>(true, "Success"));
+        employeeService.getAllEmployees();
+
+        // When
+        employeeService.deleteEmployeeById(johnId);
+        List<EmployeeDTO> johnsAfterDelete = employeeService.getEmployeesByNameSearch("john");
+
+        // Then
+        assertEquals(List.of(john), johnsAfterDelete);
+        verify(employeeApiClient, times(1)).getAllEmployees();
+    }
+
     @Test
     void getAllEmployees_RateLimitExceeded() {
         // Given
@@ -202,6 +326,67 @@ class EmployeeServiceTest {
                 com.reliaquest.api.exception.RateLimitExceededException.class, () -> employeeService.getAllEmployees());
     }
 
+    @Test
+    void readsWhenRateLimited_ServeLastGoodRosterWithoutFailing() {
+        // Given
+        UUID employeeId = UUID.randomUUID();
+        List<EmployeeDTO> employees = Arrays.asList(
+                createTestEmployee(employeeId, "John Doe", 50000),
+                createTestEmployee(UUID.randomUUID(), "Jane Smith", 60000));
+        when(employeeApiClient.getAllEmployees())
+                .thenReturn(new ApiResponse<>(employees, "Success"))
+                .thenThrow(new com.reliaquest.api.exception.RateLimitExceededException("Rate limit exceeded"));
+        when(employeeApiClient.getEmployeeById(employeeId))
+                .thenThrow(new com.reliaquest.api.exception.RateLimitExceededException("Rate limit exceeded"));
+        employeeService.getAllEmployees();
+        rosterCache.invalidate();
+
+        // When
+        List<EmployeeDTO> all = employeeService.getAllEmployees();
+        Integer highestSalary = employeeService.getHighestSalaryOfEmployees();
+        EmployeeDTO employee = employeeService.getEmployeeById(employeeId);
+
+        // Then
+        assertEquals(2, all.size());
+        assertEquals(60000, highestSalary);
+        assertEquals("John Doe", employee.getName());
+    }
+
+    @Test
+    void getEmployeeById_RateLimitedAndMissingFromLastGoodRoster_Throws() {
+        // Given
+        UUID missingId = UUID.randomUUID();
+        when(employeeApiClient.getAllEmployees())
+                .thenReturn(new ApiResponse<>(
+                        List.of(createTestEmployee(UUID.randomUUID(), "John Doe", 50000)), "Success"));
+        when(employeeApiClient.getEmployeeById(missingId))
+                .thenThrow(new com.reliaquest.api.exception.RateLimitExceededException("Rate limit exceeded"));
+        employeeService.getAllEmployees();
+
+        // When & Then
+        assertThrows(
+                com.reliaquest.api.exception.RateLimitExceededException.class,
+                () -> employeeService.getEmployeeById(missingId));
+    }
+
+    @Test
+    void deleteEmployeeById_RateLimitedLookup_DoesNotDeleteByStaleName() {
+        // Given: the employee is in the last good roster, but may be gone upstream
+        UUID employeeId = UUID.randomUUID();
+        when(employeeApiClient.getAllEmployees())
+                .thenReturn(new ApiResponse<>(List.of(createTestEmployee(employeeId, "John Doe", 50000)), "Success"));
+        when(employeeApiClient.getEmployeeById(employeeId))
+                .thenThrow(new com.reliaquest.api.exception.RateLimitExceededException("Rate limit exceeded"));
+        employeeService.getAllEmployees();
+
+        // When & Then
+        assertThrows(
+                com.reliaquest.api.exception.RateLimitExceededException.class,
+                () -> employeeService.deleteEmployeeById(employeeId));
+        verify(employeeApiClient, never()).deleteEmployeeByName(any(), any());
+        assertEquals("John Doe", employeeService.getEmployeeById(employeeId).getName());
+    }
+
     private EmployeeDTO createTestEmployee(UUID id, String name, Integer salary) {
         return EmployeeDTO.builder()
                 .id(id)
@@ -0,0 +1,122 @@
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.TimeUnit
+import org.gradle.api.GradleException
+
+/**
+ * A Spring Boot application started as a child process by the startup tasks, with the times at which it logged
+ * that it had started and first answered 2xx on a path.
+ */
+class LaunchedApplication implements Closeable {
+
+    private static final long GIVE_UP_NANOS = TimeUnit.MINUTES.toNanos(2)
+
+    final String name
+    final int port
+    final Process process
+    final long launchedAt
+    private final CompletableFuture<Long> started = new CompletableFuture<>()
+
+    private LaunchedApplication(String name, int port, Process process, long launchedAt) {
+        this.name = name
+        this.port = port
+        this.process = process
+        this.launchedAt = launchedAt
+        Thread.startDaemon {
+            // keeps draining the output after the started line, so the application never blocks on a full pipe
+            process.inputStream.eachLine { line ->
+                if (!started.done && line =~ /Started \S+ in /) {
+                    started.complete(System.nanoTime())
+                }
+            }
+        }
+    }
+
+    /**
+     * Starts the command with --server.port set to a free port
+     */
+    static LaunchedApplication launch(String name, List<String> command, File workingDir) {
+        int port = freePort()
+        long launchedAt = System.nanoTime()
+        Process process = new ProcessBuilder(command + ["--server.port=$port".toString()])
+                .directory(workingDir)
+                .redirectErrorStream(true)
+                .start()
+        return new LaunchedApplication(name, port, process, launchedAt)
+    }
+
+    static int freePort() {
+        return new ServerSocket(0).withCloseable { it.localPort }
+    }
+
+    URI uri(String path) {
+        return URI.create("http://localhost:$port$path")
+    }
+
+    /**
+     * Polls the path until it answers 2xx and returns the body, failing if the application exits or takes too long
+     */
+    String awaitOk(String path) {
+        URI uri = uri(path)
+        while (true) {
+            String body = get(uri)
+            if (body != null) {
+                return body
+            }
+            if (!process.alive) {
+                throw new GradleException("$name exited with ${process.exitValue()} before answering $uri")
+            }
+            if (System.nanoTime() - launchedAt > GIVE_UP_NANOS) {
+                throw new GradleException("$name did not answer $uri within 2 minutes")
+            }
+            Thread.sleep(10)
+        }
+    }
+
+    /**
+     * Milliseconds from launch until Spring Boot logged that the application had started
+     */
+    long millisToStarted() {
+        return TimeUnit.NANOSECONDS.toMillis(started.get(30, TimeUnit.SECONDS) - launchedAt)
+    }
+
+    long millisSinceLaunch() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - launchedAt)
+    }
+
+    /**
+     * Resident set size in KiB from /proc, or -1 where that is not available
+     */
+    long residentKib() {
+        File status = new File("/proc/${process.pid()}/status")
+        if (!status.canRead()) {
+            return -1
+        }
+        String line = status.readLines().find { it.startsWith('VmRSS:') }
+        return line == null ? -1 : Long.parseLong(line.replaceAll(/\D/, ''))
+    }
+
+    @Override
+    void close() {
+        process.destroy()
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly()
+        }
+    }
+
+    /**
+     * Body of a 2xx answer, or null for any other status or a connection failure
+     */
+    private static String get(URI uri) {
+        HttpURLConnection connection = (HttpURLConnection) uri.toURL().openConnection()
+        connection.connectTimeout = 100
+        connection.readTimeout = 30_000
+        try {
+            int status = connection.responseCode
+            return status >= 200 && status < 300 ? connection.inputStream.text : null
+        } catch (IOException ignored) {
+            return null
+        } finally {
+            connection.disconnect()
+        }
+    }
+}
@@ -0,0 +1,86 @@
+import groovy.json.JsonSlurper
+import org.gradle.api.DefaultTask
+import org.gradle.api.GradleException
+import org.gradle.api.file.RegularFileProperty
+import org.gradle.api.provider.Property
+import org.gradle.api.tasks.InputFile
+import org.gradle.api.tasks.Internal
+import org.gradle.api.tasks.Nested
+import org.gradle.api.tasks.TaskAction
+import org.gradle.jvm.toolchain.JavaLauncher
+
+/**
+ * Runs the api's native executable and its boot jar in turn against a freshly started mock server, checks that
+ * both list employees and look one up by id, and compares their time to ready, time to first request and RSS.
+ * The comparison is logged and written to the report file.
+ */
+abstract class NativeSmokeTest extends DefaultTask {
+
+    @Nested
+    abstract Property<JavaLauncher> getJavaLauncher()
+
+    @InputFile
+    abstract RegularFileProperty getServerJar()
+
+    @InputFile
+    abstract RegularFileProperty getApiJar()
+
+    @InputFile
+    abstract RegularFileProperty getNativeExecutable()
+
+    @Internal
+    abstract RegularFileProperty getReport()
+
+    NativeSmokeTest() {
+        outputs.upToDateWhen { false }
+    }
+
+    @TaskAction
+    void smokeTest() {
+        String java = javaLauncher.get().executablePath.asFile.absolutePath
+        List<String> lines = []
+        LaunchedApplication server =
+                LaunchedApplication.launch('server', [java, '-jar', serverJar.get().asFile.absolutePath], temporaryDir)
+        try {
+            server.awaitOk('/api/v1/employee')
+            Map<String, List<String>> variants = [
+                    jvm: [java, '-jar', apiJar.get().asFile.absolutePath],
+                    native: [nativeExecutable.get().asFile.absolutePath]]
+            variants.each { variant, command ->
+                List<String> arguments = [
+                        "--employee.api.base-url=http://localhost:${server.port}".toString(),
+                        "--employee.roster.snapshot.path=${new File(temporaryDir, "${variant}.snapshot")}".toString()]
+                LaunchedApplication api =
+                        LaunchedApplication.launch("api ($variant)", command + arguments, temporaryDir)
+                try {
+                    String line = check(api)
+                    logger.lifecycle("$variant: $line")
+                    lines << String.format('%-8s %s', variant, line)
+                } finally {
+                    api.close()
+                }
+            }
+        } finally {
+            server.close()
+        }
+        File report = this.report.get().asFile
+        report.parentFile.mkdirs()
+        report.text = lines.join(System.lineSeparator()) + System.lineSeparator()
+    }
+
+    private static String check(LaunchedApplication api) {
+        List<Map> employees = (List<Map>) new JsonSlurper().parseText(api.awaitOk('/api/v1/employee'))
+        long firstRequest = api.millisSinceLaunch()
+        if (employees.isEmpty()) {
+            throw new GradleException("${api.name} listed no employees")
+        }
+        String id = employees[0].id
+        Map employee = (Map) new JsonSlurper().parseText(api.awaitOk("/api/v1/employee/$id"))
+        if (employee.id != id) {
+            throw new GradleException("${api.name} answered employee ${employee.id} when asked for $id")
+        }
+        return String.format(
+                'time-to-ready %6dms   time-to-first-request %6dms   rss %7dKiB',
+                api.millisToStarted(), firstRequest, api.residentKib())
+    }
+}
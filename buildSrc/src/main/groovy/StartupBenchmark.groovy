@@ -0,0 +1,84 @@
+import org.gradle.api.DefaultTask
+import org.gradle.api.file.DirectoryProperty
+import org.gradle.api.file.RegularFileProperty
+import org.gradle.api.provider.MapProperty
+import org.gradle.api.provider.Property
+import org.gradle.api.tasks.Input
+import org.gradle.api.tasks.Internal
+import org.gradle.api.tasks.Nested
+import org.gradle.api.tasks.TaskAction
+import org.gradle.jvm.toolchain.JavaLauncher
+
+/**
+ * Starts the application from build/cds once per run and mode, and measures the time from launch until Spring Boot
+ * logs that it has started (time to ready) and until firstRequestPath first answers 2xx (time to first request).
+ * The median of each mode is logged and written to the report file.
+ */
+abstract class StartupBenchmark extends DefaultTask {
+
+    @Nested
+    abstract Property<JavaLauncher> getJavaLauncher()
+
+    /** Directory holding classpath.args and app.jsa, see the cdsArchive task */
+    @Internal
+    abstract DirectoryProperty getWorkingDir()
+
+    @Input
+    abstract Property<String> getMainClass()
+
+    @Input
+    abstract Property<String> getFirstRequestPath()
+
+    @Input
+    abstract Property<Integer> getRuns()
+
+    /** JVM options of each measured mode, by mode name */
+    @Input
+    abstract MapProperty<String, List<String>> getModes()
+
+    @Internal
+    abstract RegularFileProperty getReport()
+
+    StartupBenchmark() {
+        outputs.upToDateWhen { false }
+    }
+
+    @TaskAction
+    void measure() {
+        String java = javaLauncher.get().executablePath.asFile.absolutePath
+        List<String> lines = []
+        modes.get().each { mode, jvmOptions ->
+            List<Long> ready = []
+            List<Long> firstRequest = []
+            runs.get().times {
+                Map<String, Long> sample = launch(java, jvmOptions)
+                ready << sample.ready
+                firstRequest << sample.firstRequest
+            }
+            String line = String.format(
+                    '%-16s time-to-ready %6dms   time-to-first-request %6dms (median of %d)',
+                    mode, median(ready), median(firstRequest), runs.get())
+            logger.lifecycle(line)
+            lines << line
+        }
+        File report = this.report.get().asFile
+        report.parentFile.mkdirs()
+        report.text = lines.join(System.lineSeparator()) + System.lineSeparator()
+    }
+
+    private Map<String, Long> launch(String java, List<String> jvmOptions) {
+        List<String> command = [java] + jvmOptions + ['@classpath.args', mainClass.get()]
+        LaunchedApplication application = LaunchedApplication.launch(mainClass.get(), command, workingDir.get().asFile)
+        try {
+            application.awaitOk(firstRequestPath.get())
+            long firstRequest = application.millisSinceLaunch()
+            return [ready: application.millisToStarted(), firstRequest: firstRequest]
+        } finally {
+            application.close()
+        }
+    }
+
+    private static long median(List<Long> values) {
+        return values.sort(false)[values.size().intdiv(2)]
+    }
+}
@@ -0,0 +1,83 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Durable append throughput per fsync policy with concurrent writers, each waiting for its own entry
+ * the way MockEmployeeService does. Run against the disk the server will persist to; tmpfs hides fsync cost.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class WriteAheadLogBenchmark {
+
+    @Param({"ALWAYS", "GROUP", "NEVER"})
+    private FsyncPolicy fsyncPolicy;
+
+    private Path directory;
+    private WriteAheadLog writeAheadLog;
+    private MockEmployee employee;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory(Path.of(System.getProperty("user.dir")), "wal-benchmark");
+        writeAheadLog = new WriteAheadLog(directory, fsyncPolicy);
+        writeAheadLog.open(0);
+        employee = MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name("Jane Doe")
+                .salary(120000)
+                .age(35)
+                .title("Engineer")
+                .email("jane.doe@company.com")
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        writeAheadLog.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long singleWriter() throws IOException {
+        return append();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long eightWriters() throws IOException {
+        return append();
+    }
+
+    private long append() throws IOException {
+        final long sequence;
+        synchronized (this) {
+            sequence = writeAheadLog.appendCreate(employee);
+        }
+        writeAheadLog.awaitDurable(sequence);
+        return sequence;
+    }
+}
@@ -0,0 +1,86 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Heap list versus off-heap store at multi-million row counts: id lookups and a full read as served by GET.
+ * The gc profiler shows the allocation each read costs; for pause times and RSS of the whole server, start it
+ * with -Xlog:gc and the same mock.employees.max under each mock.store.type and compare {@code ps -o rss}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeStoreBenchmark {
+
+    @Param({"1000000", "3000000"})
+    private int rows;
+
+    @Param({"HEAP", "OFF_HEAP"})
+    private EmployeeStoreType storeType;
+
+    private EmployeeStore store;
+    private Path directory;
+    private UUID[] ids;
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("employee-store-benchmark");
+        store = storeType == EmployeeStoreType.HEAP ? new HeapEmployeeStore() : new OffHeapEmployeeStore(directory);
+        SplittableRandom random = new SplittableRandom(42);
+        ids = new UUID[1024];
+        for (int i = 0; i < rows; i++) {
+            UUID id = new UUID(random.nextLong(), random.nextLong());
+            if (i % (rows / ids.length) == 0 && i / (rows / ids.length) < ids.length) {
+                ids[i / (rows / ids.length)] = id;
+            }
+            store.add(MockEmployee.builder()
+                    .id(id)
+                    .name("Employee " + Integer.toString(i, 36))
+                    .salary(random.nextInt(30000, 500000))
+                    .age(random.nextInt(16, 70))
+                    .title("Title " + (i % 500))
+                    .email("employee" + i + "@company.com")
+                    .build());
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (store instanceof OffHeapEmployeeStore offHeapStore) {
+            offHeapStore.close();
+        }
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public MockEmployee findById() {
+        return store.findById(ids[next++ & (ids.length - 1)]).orElseThrow();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public long readAll() {
+        long total = 0;
+        for (MockEmployee employee : store.findAll()) {
+            total += employee.getSalary();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,69 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.HeapEmployeeStore;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Cost of one gzipped GET of the full roster in each wire format: serialising and compressing it per request
+ * versus writing the cached body. Both write to a discarding stream, so the numbers exclude the socket.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RosterResponseBenchmark {
+
+    @Param({"1000", "100000"})
+    private int rows;
+
+    @Param({"JSON", "SMILE"})
+    private RosterFormat format;
+
+    private HeapEmployeeStore store;
+    private RosterResponseCache cache;
+
+    @Setup
+    public void setUp() {
+        store = new HeapEmployeeStore();
+        for (int i = 0; i < rows; i++) {
+            store.add(MockEmployee.builder()
+                    .id(UUID.randomUUID())
+                    .name("Employee " + i)
+                    .salary(30000 + i)
+                    .age(16 + i % 54)
+                    .title("Title " + (i % 500))
+                    .email("employee" + i + "@company.com")
+                    .build());
+        }
+        cache = new RosterResponseCache(store, new ObjectMapper(), 1 << 30);
+    }
+
+    @Benchmark
+    public void streamAndGzip() throws IOException {
+        try (var gzip = new GZIPOutputStream(OutputStream.nullOutputStream(), 1 << 16)) {
+            cache.writeRoster(format, gzip, store.findAll());
+        }
+    }
+
+    @Benchmark
+    public int cached() throws IOException {
+        final var body = cache.get(format, true).orElseThrow();
+        final var size = body.remaining();
+        Channels.newChannel(OutputStream.nullOutputStream()).write(body);
+        return size;
+    }
+}
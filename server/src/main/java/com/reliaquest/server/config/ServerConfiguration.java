@@ -1,19 +1,26 @@
 package com.reliaquest.server.config;
 
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.persistence.EmployeePersistence;
+import com.reliaquest.server.store.EmployeeStore;
+import com.reliaquest.server.store.EmployeeStoreType;
+import com.reliaquest.server.store.HeapEmployeeStore;
+import com.reliaquest.server.store.OffHeapEmployeeStore;
+import com.reliaquest.server.web.ChaosProperties;
 import com.reliaquest.server.web.RandomRequestLimitInterceptor;
-import java.util.ArrayList;
-import java.util.List;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Locale;
 import java.util.UUID;
-import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
 import net.datafaker.transformations.Field;
 import net.datafaker.transformations.JavaObjectTransformer;
 import net.datafaker.transformations.Schema;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -21,6 +28,7 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Slf4j
 @Configuration
+@EnableConfigurationProperties(ChaosProperties.class)
 public class ServerConfiguration implements WebMvcConfigurer {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
@@ -31,10 +39,35 @@ public class ServerConfiguration implements WebMvcConfigurer {
     }
 
     /*
-     * This list is modifiable by design for CRUD operations.
+     * The store is modifiable by design for CRUD operations.
+     * With persistence enabled it is recovered from disk, and generated only when no snapshot exists yet.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
+    public EmployeeStore employeeStore(
+            Faker faker,
+            @Value("${mock.employees.max:20}") int maxEmployees,
+            @Value("${mock.store.type:HEAP}") EmployeeStoreType storeType,
+            @Value("${mock.store.directory}") Path storeDirectory,
+            ObjectProvider<EmployeePersistence> employeePersistence)
+            throws IOException {
+        final EmployeeStore employeeStore = switch (storeType) {
+            case HEAP -> new HeapEmployeeStore();
+            case OFF_HEAP -> new OffHeapEmployeeStore(storeDirectory);
+        };
+
+        final var persistence = employeePersistence.getIfAvailable();
+        if (persistence != null && persistence.recover(employeeStore)) {
+            return employeeStore;
+        }
+
+        generateMockEmployees(faker, maxEmployees, employeeStore);
+        if (persistence != null) {
+            persistence.initialize(employeeStore);
+        }
+        return employeeStore;
+    }
+
+    private static void generateMockEmployees(Faker faker, int maxEmployees, EmployeeStore employeeStore) {
         final var transformer = new JavaObjectTransformer();
         final var schema = Schema.of(
                 Field.field("id", UUID::randomUUID),
@@ -46,10 +79,10 @@ public class ServerConfiguration implements WebMvcConfigurer {
                         "email",
                         () -> EMAIL_TEMPLATE.formatted(
                                 faker.twitter().userName().toLowerCase())));
-        return IntStream.rangeClosed(1, maxEmployees)
+        IntStream.rangeClosed(1, maxEmployees)
                 .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
                 .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
-                .collect(Collectors.toCollection(ArrayList::new));
+                .forEach(employeeStore::add);
     }
 
     @Override
@@ -5,10 +5,16 @@ import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
 import com.reliaquest.server.model.Response;
 import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.web.AcceptEncoding;
+import com.reliaquest.server.web.RosterFormat;
+import com.reliaquest.server.web.RosterResponseCache;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
-import java.util.List;
+import java.io.IOException;
+import java.nio.channels.Channels;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -16,6 +22,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -25,10 +32,34 @@ import org.springframework.web.bind.annotation.RestController;
 public class MockEmployeeController {
 
     private final MockEmployeeService mockEmployeeService;
+    private final RosterResponseCache rosterResponseCache;
 
+    /*
+     * Serves the cached serialised roster as JSON, or Smile when the client asks for it, gzipped when the client
+     * accepts it, and falls back to streaming the envelope element by element when the roster is too large to cache.
+     */
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public void getEmployees(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse response)
+            throws IOException {
+        final var format = RosterFormat.negotiate(accept);
+        final var gzip = AcceptEncoding.acceptsGzip(acceptEncoding);
+        response.setContentType(format.mediaType().toString());
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING);
+
+        final var body = rosterResponseCache.get(format, gzip);
+        if (body.isEmpty()) {
+            rosterResponseCache.writeRoster(format, response.getOutputStream(), mockEmployeeService.getMockEmployees());
+            return;
+        }
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(body.get().remaining());
+        /* a channel write copies the read-only buffer out in chunks, without a heap array of the whole body */
+        Channels.newChannel(response.getOutputStream()).write(body.get());
     }
 
     @GetMapping("/{id}")
@@ -0,0 +1,79 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Binary encoding of employees shared by the write-ahead log and snapshots
+ */
+final class EmployeeCodec {
+
+    private EmployeeCodec() {}
+
+    static void writeEmployee(DataOutput out, MockEmployee employee) throws IOException {
+        writeUuid(out, employee.getId());
+        writeString(out, employee.getName());
+        writeInteger(out, employee.getSalary());
+        writeInteger(out, employee.getAge());
+        writeString(out, employee.getTitle());
+        writeString(out, employee.getEmail());
+    }
+
+    static MockEmployee readEmployee(ByteBuffer in) {
+        return MockEmployee.builder()
+                .id(readUuid(in))
+                .name(readString(in))
+                .salary(readInteger(in))
+                .age(readInteger(in))
+                .title(readString(in))
+                .email(readString(in))
+                .build();
+    }
+
+    static void writeUuid(DataOutput out, UUID uuid) throws IOException {
+        out.writeBoolean(uuid != null);
+        if (uuid != null) {
+            out.writeLong(uuid.getMostSignificantBits());
+            out.writeLong(uuid.getLeastSignificantBits());
+        }
+    }
+
+    static UUID readUuid(ByteBuffer in) {
+        return in.get() != 0 ? new UUID(in.getLong(), in.getLong()) : null;
+    }
+
+    private static void writeInteger(DataOutput out, Integer value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeInt(value);
+        }
+    }
+
+    private static Integer readInteger(ByteBuffer in) {
+        return in.get() != 0 ? in.getInt() : null;
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        final var bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        final var length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        final var bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,157 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.EmployeeStore;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Optional durable storage for the mock employees: a snapshot plus a write-ahead log of changes made since.
+ * Enabled with {@code mock.persistence.enabled=true}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "mock.persistence.enabled", havingValue = "true")
+public class EmployeePersistence implements DisposableBean {
+
+    private static final String SNAPSHOT_FILE = "employees.snapshot";
+
+    private final Path snapshotPath;
+    private final WriteAheadLog writeAheadLog;
+
+    private volatile long snapshotSequence;
+
+    public EmployeePersistence(
+            @Value("${mock.persistence.directory}") Path directory,
+            @Value("${mock.persistence.fsync:GROUP}") FsyncPolicy fsyncPolicy) {
+        this.snapshotPath = directory.resolve(SNAPSHOT_FILE);
+        this.writeAheadLog = new WriteAheadLog(directory.resolve("wal"), fsyncPolicy);
+        log.info("Persisting mock employees to {} with fsync policy {}", directory, fsyncPolicy);
+    }
+
+    /**
+     * Loads the last snapshot and the log entries after it into the store, or returns false if no snapshot
+     * exists yet
+     */
+    public boolean recover(EmployeeStore store) throws IOException {
+        final var started = System.nanoTime();
+        final var sequence = EmployeeSnapshot.read(snapshotPath, store::add);
+        if (sequence.isEmpty()) {
+            return false;
+        }
+
+        final var replayed = new int[1];
+        final var lastSequence = writeAheadLog.replay(sequence.getAsLong(), new WriteAheadLog.Replay() {
+            @Override
+            public void created(MockEmployee employee) {
+                store.add(employee);
+                replayed[0]++;
+            }
+
+            @Override
+            public void deleted(UUID id) {
+                store.remove(id);
+                replayed[0]++;
+            }
+        });
+        writeAheadLog.open(lastSequence);
+        snapshotSequence = sequence.getAsLong();
+
+        log.info(
+                "Recovered {} employees from snapshot and {} log entries in {}ms",
+                store.size(),
+                replayed[0],
+                (System.nanoTime() - started) / 1_000_000);
+        return true;
+    }
+
+    /**
+     * Starts a new history from freshly generated employees, discarding any log left without a snapshot
+     */
+    public void initialize(EmployeeStore store) throws IOException {
+        writeAheadLog.deleteAll();
+        EmployeeSnapshot.write(snapshotPath, 0, store.findAll());
+        writeAheadLog.open(0);
+        snapshotSequence = 0;
+    }
+
+    /**
+     * Logs a create; callers append under the same lock that orders their in-memory changes
+     */
+    public long recordCreate(MockEmployee employee) {
+        try {
+            return writeAheadLog.appendCreate(employee);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to log employee create", e);
+        }
+    }
+
+    /**
+     * Logs a delete; callers append under the same lock that orders their in-memory changes
+     */
+    public long recordDelete(UUID id) {
+        try {
+            return writeAheadLog.appendDelete(id);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to log employee delete", e);
+        }
+    }
+
+    /**
+     * Waits for a logged change to become durable; called outside the ordering lock so writers can share an fsync
+     */
+    public void awaitDurable(long sequence) {
+        try {
+            writeAheadLog.awaitDurable(sequence);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to sync employee log", e);
+        }
+    }
+
+    /**
+     * Seals the current log segment and returns the sequence a snapshot of the current state corresponds to.
+     * Call under the ordering lock, together with copying the state.
+     */
+    public long checkpoint() {
+        try {
+            return writeAheadLog.rotate();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to rotate employee log", e);
+        }
+    }
+
+    /**
+     * Writes a compacted snapshot for a {@link #checkpoint()} and drops the log segments it covers
+     */
+    public void compact(List<MockEmployee> employees, long sequence) {
+        if (sequence <= snapshotSequence) {
+            return;
+        }
+        try {
+            final var started = System.nanoTime();
+            EmployeeSnapshot.write(snapshotPath, sequence, employees);
+            snapshotSequence = sequence;
+            writeAheadLog.deleteSegmentsThrough(sequence);
+            log.debug(
+                    "Compacted {} employees at sequence {} in {}ms",
+                    employees.size(),
+                    sequence,
+                    (System.nanoTime() - started) / 1_000_000);
+        } catch (IOException e) {
+            log.warn("Failed to compact employee snapshot at sequence {}", sequence, e);
+        }
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        writeAheadLog.close();
+    }
+}
@@ -0,0 +1,90 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Compacted copy of all employees as of a write-ahead log sequence.
+ * Layout: magic, format version, sequence, employee count, employees and a trailing CRC32 of everything before it.
+ */
+final class EmployeeSnapshot {
+
+    private static final int MAGIC = 0x4d454d53; // "MEMS"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = Integer.BYTES + Integer.BYTES + Long.BYTES + Integer.BYTES;
+
+    private EmployeeSnapshot() {}
+
+    /**
+     * Writes the snapshot next to its final location, fsyncs it and atomically replaces the previous one
+     */
+    static void write(Path path, long sequence, List<MockEmployee> employees) throws IOException {
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        final var temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (var channel = FileChannel.open(
+                temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            final var buffered = new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16);
+            final var checked = new CheckedOutputStream(buffered, new CRC32());
+            final var data = new DataOutputStream(checked);
+            data.writeInt(MAGIC);
+            data.writeInt(FORMAT_VERSION);
+            data.writeLong(sequence);
+            data.writeInt(employees.size());
+            for (MockEmployee employee : employees) {
+                EmployeeCodec.writeEmployee(data, employee);
+            }
+            data.flush();
+            new DataOutputStream(buffered).writeLong(checked.getChecksum().getValue());
+            buffered.flush();
+            channel.force(true);
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Memory-maps the snapshot and passes each employee to {@code employees}, returning the snapshot's sequence,
+     * or returns empty if none was written yet.
+     * A snapshot that exists but cannot be read fails loudly, since the log segments it replaced are gone.
+     */
+    static OptionalLong read(Path path, Consumer<MockEmployee> employees) throws IOException {
+        if (!Files.exists(path)) {
+            return OptionalLong.empty();
+        }
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final var length = channel.size();
+            if (length < HEADER_BYTES + Long.BYTES || length > Integer.MAX_VALUE) {
+                throw new IOException("Unexpected length " + length + " of employee snapshot " + path);
+            }
+            final var mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+            final var payloadLength = (int) length - Long.BYTES;
+            final var checksum = new CRC32();
+            checksum.update(mapped.slice(0, payloadLength));
+            if (checksum.getValue() != mapped.getLong(payloadLength)) {
+                throw new IOException("Checksum mismatch in employee snapshot " + path);
+            }
+            final var in = mapped.slice(0, payloadLength);
+            if (in.getInt() != MAGIC || in.getInt() != FORMAT_VERSION) {
+                throw new IOException("Unsupported employee snapshot format in " + path);
+            }
+            final var sequence = in.getLong();
+            final var count = in.getInt();
+            for (int index = 0; index < count; index++) {
+                employees.accept(EmployeeCodec.readEmployee(in));
+            }
+            return OptionalLong.of(sequence);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.reliaquest.server.persistence;
+
+/**
+ * When appended write-ahead log entries are forced to disk
+ */
+public enum FsyncPolicy {
+    /**
+     * Every append is written and fsynced before the next one starts
+     */
+    ALWAYS,
+    /**
+     * Appends are buffered and fsynced in batches; each writer waits for the batch containing its entry
+     */
+    GROUP,
+    /**
+     * Appends are written to the OS page cache and never explicitly fsynced
+     */
+    NEVER
+}
@@ -0,0 +1,293 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only log of employee creates and deletes, split into segment files named after their first sequence.
+ * Each record is {@code [length][crc32][sequence][type][payload]}; replay stops at the first torn or corrupt
+ * record of the newest segment and truncates it there.
+ * With {@link FsyncPolicy#GROUP} appends only buffer their record; the first writer to wait for durability
+ * writes and fsyncs everything buffered so far, so concurrent writers share one fsync.
+ */
+@Slf4j
+public class WriteAheadLog implements Closeable {
+
+    private static final byte CREATE = 1;
+    private static final byte DELETE = 2;
+    private static final String SEGMENT_PREFIX = "wal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final int RECORD_HEADER_BYTES = Integer.BYTES + Integer.BYTES;
+    private static final int MAX_RECORD_BYTES = 1 << 20;
+
+    private final Path directory;
+    private final FsyncPolicy fsyncPolicy;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final List<ByteBuffer> pending = new ArrayList<>();
+
+    private FileChannel channel;
+    private long lastSequence;
+    private volatile long durableSequence;
+
+    public WriteAheadLog(Path directory, FsyncPolicy fsyncPolicy) {
+        this.directory = directory;
+        this.fsyncPolicy = fsyncPolicy;
+    }
+
+    public interface Replay {
+
+        void created(MockEmployee employee);
+
+        void deleted(UUID id);
+    }
+
+    /**
+     * Applies every logged entry after {@code afterSequence} in order and returns the last sequence found
+     */
+    public long replay(long afterSequence, Replay replay) throws IOException {
+        final var segments = segments();
+        var last = afterSequence;
+        for (int index = 0; index < segments.size(); index++) {
+            final var segment = segments.get(index);
+            final var in = ByteBuffer.wrap(Files.readAllBytes(segment));
+            while (in.hasRemaining()) {
+                final var start = in.position();
+                final var body = nextRecord(in);
+                if (body == null) {
+                    if (index < segments.size() - 1) {
+                        throw new IOException("Corrupt record at offset " + start + " of " + segment);
+                    }
+                    log.warn("Truncating torn write-ahead log tail at offset {} of {}", start, segment);
+                    try (var truncated = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+                        truncated.truncate(start);
+                    }
+                    break;
+                }
+                final var sequence = body.getLong();
+                final var type = body.get();
+                if (sequence <= afterSequence) {
+                    continue;
+                }
+                if (type == CREATE) {
+                    replay.created(EmployeeCodec.readEmployee(body));
+                } else if (type == DELETE) {
+                    replay.deleted(EmployeeCodec.readUuid(body));
+                } else {
+                    throw new IOException("Unknown record type " + type + " in " + segment);
+                }
+                last = sequence;
+            }
+        }
+        return last;
+    }
+
+    /**
+     * Starts appending after {@code sequence}, the last sequence already covered by the snapshot or replay
+     */
+    public synchronized void open(long sequence) throws IOException {
+        Files.createDirectories(directory);
+        lastSequence = sequence;
+        durableSequence = sequence;
+        channel = openSegment(sequence + 1);
+    }
+
+    public long appendCreate(MockEmployee employee) throws IOException {
+        final var payload = new ByteArrayOutputStream(128);
+        EmployeeCodec.writeEmployee(new DataOutputStream(payload), employee);
+        return append(CREATE, payload.toByteArray());
+    }
+
+    public long appendDelete(UUID id) throws IOException {
+        final var payload = new ByteArrayOutputStream(17);
+        EmployeeCodec.writeUuid(new DataOutputStream(payload), id);
+        return append(DELETE, payload.toByteArray());
+    }
+
+    /**
+     * Blocks until the entry with the given sequence is durable under the configured policy
+     */
+    public void awaitDurable(long sequence) throws IOException {
+        if (fsyncPolicy != FsyncPolicy.GROUP || durableSequence >= sequence) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            if (durableSequence < sequence) {
+                flushPending();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Closes the current segment and starts a new one, returning the last sequence written before the switch
+     */
+    public long rotate() throws IOException {
+        flushLock.lock();
+        try {
+            synchronized (this) {
+                flushPending();
+                if (channel.size() == 0) {
+                    return lastSequence;
+                }
+                channel.force(true);
+                channel.close();
+                channel = openSegment(lastSequence + 1);
+                return lastSequence;
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Deletes closed segments whose entries are all at or below {@code sequence}
+     */
+    public void deleteSegmentsThrough(long sequence) throws IOException {
+        final var segments = segments();
+        for (int index = 0; index < segments.size() - 1; index++) {
+            if (firstSequence(segments.get(index + 1)) <= sequence + 1) {
+                Files.delete(segments.get(index));
+            }
+        }
+    }
+
+    /**
+     * Deletes every segment, used when starting over without a snapshot
+     */
+    public void deleteAll() throws IOException {
+        for (Path segment : segments()) {
+            Files.delete(segment);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        flushLock.lock();
+        try {
+            synchronized (this) {
+                if (channel != null) {
+                    flushPending();
+                    channel.force(true);
+                    channel.close();
+                    channel = null;
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private long append(byte type, byte[] payload) throws IOException {
+        final var bodyLength = Long.BYTES + 1 + payload.length;
+        final var record = ByteBuffer.allocate(RECORD_HEADER_BYTES + bodyLength);
+        synchronized (this) {
+            final var sequence = ++lastSequence;
+            record.putInt(bodyLength).putInt(0).putLong(sequence).put(type).put(payload);
+            final var checksum = new CRC32();
+            checksum.update(record.array(), RECORD_HEADER_BYTES, bodyLength);
+            record.putInt(Integer.BYTES, (int) checksum.getValue()).flip();
+            if (fsyncPolicy == FsyncPolicy.GROUP) {
+                pending.add(record);
+            } else {
+                writeFully(new ByteBuffer[] {record});
+                if (fsyncPolicy == FsyncPolicy.ALWAYS) {
+                    channel.force(false);
+                }
+                durableSequence = sequence;
+            }
+            return sequence;
+        }
+    }
+
+    /**
+     * Writes and fsyncs all buffered records; callers hold the flush lock
+     */
+    private void flushPending() throws IOException {
+        final ByteBuffer[] batch;
+        final long batchSequence;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = pending.toArray(new ByteBuffer[0]);
+            batchSequence = lastSequence;
+            pending.clear();
+            writeFully(batch);
+        }
+        channel.force(false);
+        durableSequence = batchSequence;
+    }
+
+    private void writeFully(ByteBuffer[] buffers) throws IOException {
+        var remaining = 0L;
+        for (ByteBuffer buffer : buffers) {
+            remaining += buffer.remaining();
+        }
+        while (remaining > 0) {
+            remaining -= channel.write(buffers);
+        }
+    }
+
+    private FileChannel openSegment(long firstSequence) throws IOException {
+        final var segment = directory.resolve(SEGMENT_PREFIX + "%020d".formatted(firstSequence) + SEGMENT_SUFFIX);
+        return FileChannel.open(segment, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private List<Path> segments() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                        final var name = file.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static long firstSequence(Path segment) {
+        final var name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    /**
+     * Returns the next record's body, or null if the record is incomplete or fails its checksum
+     */
+    private static ByteBuffer nextRecord(ByteBuffer in) {
+        if (in.remaining() < RECORD_HEADER_BYTES) {
+            return null;
+        }
+        final var bodyLength = in.getInt();
+        final var expectedChecksum = in.getInt();
+        if (bodyLength < Long.BYTES + 1 || bodyLength > MAX_RECORD_BYTES || bodyLength > in.remaining()) {
+            return null;
+        }
+        final var checksum = new CRC32();
+        checksum.update(in.array(), in.position(), bodyLength);
+        if ((int) checksum.getValue() != expectedChecksum) {
+            return null;
+        }
+        final var body = in.slice(in.position(), bodyLength);
+        in.position(in.position() + bodyLength);
+        return body;
+    }
+}
@@ -4,15 +4,17 @@ import com.reliaquest.server.config.ServerConfiguration;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.persistence.EmployeePersistence;
+import com.reliaquest.server.store.EmployeeStore;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -22,14 +24,16 @@ public class MockEmployeeService {
 
     private final Faker faker;
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    private final EmployeeStore employeeStore;
+
+    private final ObjectProvider<EmployeePersistence> employeePersistence;
+
+    public List<MockEmployee> getMockEmployees() {
+        return employeeStore.findAll();
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        return employeeStore.findById(uuid);
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
@@ -37,22 +41,59 @@ public class MockEmployeeService {
                 ServerConfiguration.EMAIL_TEMPLATE.formatted(
                         faker.twitter().userName().toLowerCase()),
                 input);
-        mockEmployees.add(mockEmployee);
+        final var persistence = employeePersistence.getIfAvailable();
+        var sequence = 0L;
+        synchronized (employeeStore) {
+            if (persistence != null) {
+                sequence = persistence.recordCreate(mockEmployee);
+            }
+            employeeStore.add(mockEmployee);
+        }
+        if (persistence != null) {
+            persistence.awaitDurable(sequence);
+        }
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
+        final var persistence = employeePersistence.getIfAvailable();
+        final Optional<MockEmployee> mockEmployee;
+        var sequence = 0L;
+        synchronized (employeeStore) {
+            mockEmployee = employeeStore.removeFirstByName(input.getName());
+            if (mockEmployee.isPresent() && persistence != null) {
+                sequence = persistence.recordDelete(mockEmployee.get().getId());
+            }
+        }
         if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
+            if (persistence != null) {
+                persistence.awaitDurable(sequence);
+            }
             log.debug("Removed employee: {}", mockEmployee.get());
             return true;
         }
 
         return false;
     }
+
+    /*
+     * Periodically folds the write-ahead log into a fresh snapshot when persistence is enabled.
+     */
+    @Scheduled(
+            initialDelayString = "${mock.persistence.snapshot-interval:PT1M}",
+            fixedDelayString = "${mock.persistence.snapshot-interval:PT1M}")
+    public void compact() {
+        final var persistence = employeePersistence.getIfAvailable();
+        if (persistence == null) {
+            return;
+        }
+        final List<MockEmployee> employees;
+        final long sequence;
+        synchronized (employeeStore) {
+            employees = employeeStore.findAll();
+            sequence = persistence.checkpoint();
+        }
+        persistence.compact(employees, sequence);
+    }
 }
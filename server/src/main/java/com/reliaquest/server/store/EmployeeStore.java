@@ -0,0 +1,37 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Storage for the mock employees, kept in insertion order.
+ * Implementations are thread-safe; callers that must order a change with other work, such as logging it,
+ * synchronize on the store.
+ */
+public interface EmployeeStore {
+
+    int size();
+
+    /**
+     * Incremented by every change, so derived data such as serialised responses can be keyed by it
+     */
+    long version();
+
+    /**
+     * Point-in-time view of all employees in insertion order, unaffected by later changes
+     */
+    List<MockEmployee> findAll();
+
+    Optional<MockEmployee> findById(UUID id);
+
+    void add(MockEmployee employee);
+
+    /**
+     * Removes the first employee whose name matches ignoring case
+     */
+    Optional<MockEmployee> removeFirstByName(String name);
+
+    boolean remove(UUID id);
+}
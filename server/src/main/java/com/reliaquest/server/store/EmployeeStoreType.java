@@ -0,0 +1,12 @@
+package com.reliaquest.server.store;
+
+public enum EmployeeStoreType {
+    /**
+     * MockEmployee objects in a list on the Java heap
+     */
+    HEAP,
+    /**
+     * Encoded records in memory-mapped files, decoded only when read
+     */
+    OFF_HEAP
+}
@@ -0,0 +1,65 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+public class HeapEmployeeStore implements EmployeeStore {
+
+    private final List<MockEmployee> mockEmployees = new ArrayList<>();
+    private long version;
+
+    @Override
+    public synchronized int size() {
+        return mockEmployees.size();
+    }
+
+    @Override
+    public synchronized long version() {
+        return version;
+    }
+
+    @Override
+    public synchronized List<MockEmployee> findAll() {
+        return List.copyOf(mockEmployees);
+    }
+
+    @Override
+    public synchronized Optional<MockEmployee> findById(UUID id) {
+        return mockEmployees.stream()
+                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
+                        && mockEmployee.getId().equals(id))
+                .findFirst();
+    }
+
+    @Override
+    public synchronized void add(MockEmployee employee) {
+        mockEmployees.add(employee);
+        version++;
+    }
+
+    @Override
+    public synchronized Optional<MockEmployee> removeFirstByName(String name) {
+        final var mockEmployee = mockEmployees.stream()
+                .filter(employee -> Objects.nonNull(employee.getName())
+                        && employee.getName().equalsIgnoreCase(name))
+                .findFirst();
+        mockEmployee.ifPresent(employee -> {
+            mockEmployees.remove(employee);
+            version++;
+        });
+        return mockEmployee;
+    }
+
+    @Override
+    public synchronized boolean remove(UUID id) {
+        final var removed = mockEmployees.removeIf(employee -> id.equals(employee.getId()));
+        if (removed) {
+            version++;
+        }
+        return removed;
+    }
+}
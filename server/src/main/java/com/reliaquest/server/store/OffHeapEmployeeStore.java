@@ -0,0 +1,428 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps employees outside the Java heap in two memory-mapped scratch files.
+ * The slot file holds one fixed-width slot per employee: id, salary, age, flags and the offset of its strings.
+ * The string file holds each employee's name, title and email as length-prefixed UTF-8.
+ * Both files are append-only: a delete only flags its slot, so views handed out earlier stay valid and
+ * MockEmployee objects exist only for rows that are actually read. Space of deleted rows is not reclaimed.
+ * Ids are indexed in primitive arrays, so the heap footprint is a few large arrays regardless of row count.
+ */
+@Slf4j
+public class OffHeapEmployeeStore implements EmployeeStore, Closeable {
+
+    private static final int SLOT_BYTES = 32;
+    private static final int ID_HI = 0;
+    private static final int ID_LO = 8;
+    private static final int SALARY = 16;
+    private static final int AGE = 20;
+    private static final int FLAGS = 24;
+    private static final int STRINGS = 28;
+
+    private static final int DELETED = 1;
+    private static final int HAS_ID = 1 << 1;
+    private static final int HAS_SALARY = 1 << 2;
+    private static final int HAS_AGE = 1 << 3;
+
+    private static final int SLOTS_PER_CHUNK = 1 << 20;
+    private static final int STRING_CHUNK_BYTES = 1 << 26;
+
+    private final Path directory;
+    private final MappedRegion slots;
+    private final MappedRegion strings;
+    private final IdIndex idIndex = new IdIndex();
+
+    private int slotCount;
+    private int liveCount;
+    private long stringsEnd;
+    private long version;
+
+    public OffHeapEmployeeStore(Path directory) throws IOException {
+        this(directory, SLOTS_PER_CHUNK, STRING_CHUNK_BYTES);
+    }
+
+    /**
+     * Store mapped in chunks of the given sizes; the string chunk size must be a multiple of 4.
+     * Small chunks let tests cross chunk boundaries with a handful of employees.
+     */
+    OffHeapEmployeeStore(Path directory, int slotsPerChunk, int stringChunkBytes) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.slots = new MappedRegion(directory.resolve("slots.dat"), SLOT_BYTES * slotsPerChunk);
+        this.strings = new MappedRegion(directory.resolve("strings.dat"), stringChunkBytes);
+        log.info("Storing mock employees off-heap in {}", directory);
+    }
+
+    @Override
+    public synchronized int size() {
+        return liveCount;
+    }
+
+    @Override
+    public synchronized long version() {
+        return version;
+    }
+
+    @Override
+    public synchronized List<MockEmployee> findAll() {
+        final var liveSlots = new int[liveCount];
+        var count = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            if ((flags(slot) & DELETED) == 0) {
+                liveSlots[count++] = slot;
+            }
+        }
+        final var slotChunks = slots.chunks;
+        final var stringChunks = strings.chunks;
+        return new AbstractList<>() {
+            @Override
+            public MockEmployee get(int index) {
+                return decode(slotChunks, stringChunks, liveSlots[index]);
+            }
+
+            @Override
+            public int size() {
+                return liveSlots.length;
+            }
+        };
+    }
+
+    @Override
+    public synchronized Optional<MockEmployee> findById(UUID id) {
+        final var slot = idIndex.get(id.getMostSignificantBits(), id.getLeastSignificantBits());
+        return slot < 0 ? Optional.empty() : Optional.of(decode(slots.chunks, strings.chunks, slot));
+    }
+
+    @Override
+    public synchronized void add(MockEmployee employee) {
+        final var name = encode(employee.getName());
+        final var title = encode(employee.getTitle());
+        final var email = encode(employee.getEmail());
+        final var stringsLength = 3 * Integer.BYTES + length(name) + length(title) + length(email);
+        final var stringChunkBytes = strings.chunkBytes;
+        if (stringsLength > stringChunkBytes) {
+            throw new IllegalArgumentException("Employee strings exceed " + stringChunkBytes + " bytes");
+        }
+        if (stringsEnd / stringChunkBytes != (stringsEnd + stringsLength - 1) / stringChunkBytes) {
+            stringsEnd = (stringsEnd / stringChunkBytes + 1) * stringChunkBytes;
+        }
+        final var stringsOffset = stringsEnd;
+        final var slot = slotCount;
+        try {
+            strings.ensureCapacity(stringsOffset + stringsLength);
+            slots.ensureCapacity((long) (slot + 1) * SLOT_BYTES);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to grow off-heap employee store", e);
+        }
+
+        final var stringChunk = strings.chunk(stringsOffset);
+        var position = strings.position(stringsOffset);
+        position = putBytes(stringChunk, position, name);
+        position = putBytes(stringChunk, position, title);
+        putBytes(stringChunk, position, email);
+
+        final var slotChunk = slots.chunk((long) slot * SLOT_BYTES);
+        final var base = slots.position((long) slot * SLOT_BYTES);
+        final var id = employee.getId();
+        var flags = 0;
+        if (id != null) {
+            slotChunk.putLong(base + ID_HI, id.getMostSignificantBits());
+            slotChunk.putLong(base + ID_LO, id.getLeastSignificantBits());
+            flags |= HAS_ID;
+        }
+        if (employee.getSalary() != null) {
+            slotChunk.putInt(base + SALARY, employee.getSalary());
+            flags |= HAS_SALARY;
+        }
+        if (employee.getAge() != null) {
+            slotChunk.putInt(base + AGE, employee.getAge());
+            flags |= HAS_AGE;
+        }
+        slotChunk.putInt(base + FLAGS, flags);
+        slotChunk.putInt(base + STRINGS, (int) (stringsOffset / Integer.BYTES));
+
+        if (id != null) {
+            idIndex.put(id.getMostSignificantBits(), id.getLeastSignificantBits(), slot);
+        }
+        stringsEnd = stringsOffset + ((stringsLength + Integer.BYTES - 1) & -Integer.BYTES);
+        slotCount++;
+        liveCount++;
+        version++;
+    }
+
+    @Override
+    public synchronized Optional<MockEmployee> removeFirstByName(String name) {
+        for (int slot = 0; slot < slotCount; slot++) {
+            if ((flags(slot) & DELETED) == 0) {
+                final var slotName = decodeName(slot);
+                if (slotName != null && slotName.equalsIgnoreCase(name)) {
+                    final var employee = decode(slots.chunks, strings.chunks, slot);
+                    delete(slot);
+                    return Optional.of(employee);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public synchronized boolean remove(UUID id) {
+        final var slot = idIndex.get(id.getMostSignificantBits(), id.getLeastSignificantBits());
+        if (slot < 0) {
+            return false;
+        }
+        delete(slot);
+        return true;
+    }
+
+    /**
+     * Deletes the scratch files; the mappings themselves are released once their buffers are collected
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        slots.close();
+        strings.close();
+        Files.deleteIfExists(slots.path);
+        Files.deleteIfExists(strings.path);
+        Files.deleteIfExists(directory);
+    }
+
+    private void delete(int slot) {
+        final var chunk = slots.chunk((long) slot * SLOT_BYTES);
+        final var base = slots.position((long) slot * SLOT_BYTES);
+        final var flags = chunk.getInt(base + FLAGS);
+        chunk.putInt(base + FLAGS, flags | DELETED);
+        if ((flags & HAS_ID) != 0) {
+            idIndex.remove(chunk.getLong(base + ID_HI), chunk.getLong(base + ID_LO));
+        }
+        liveCount--;
+        version++;
+    }
+
+    private int flags(int slot) {
+        return slotInt(slot, FLAGS);
+    }
+
+    private String decodeName(int slot) {
+        final var stringsOffset = Integer.toUnsignedLong(slotInt(slot, STRINGS)) * Integer.BYTES;
+        return getString(strings.chunk(stringsOffset), strings.position(stringsOffset));
+    }
+
+    private int slotInt(int slot, int field) {
+        final var slotOffset = (long) slot * SLOT_BYTES;
+        return slots.chunk(slotOffset).getInt(slots.position(slotOffset) + field);
+    }
+
+    /**
+     * Decodes a slot using chunk arrays captured by the caller, so views keep working after the regions grow
+     */
+    private MockEmployee decode(MappedByteBuffer[] slotChunks, MappedByteBuffer[] stringChunks, int slot) {
+        final var slotOffset = (long) slot * SLOT_BYTES;
+        final var slotChunk = slotChunks[(int) (slotOffset / slots.chunkBytes)];
+        final var base = (int) (slotOffset % slots.chunkBytes);
+        final var flags = slotChunk.getInt(base + FLAGS);
+        final var stringsOffset = Integer.toUnsignedLong(slotChunk.getInt(base + STRINGS)) * Integer.BYTES;
+        final var stringChunk = stringChunks[(int) (stringsOffset / strings.chunkBytes)];
+        final var namePosition = (int) (stringsOffset % strings.chunkBytes);
+        final var name = getString(stringChunk, namePosition);
+        final var titlePosition = skipString(stringChunk, namePosition);
+        final var title = getString(stringChunk, titlePosition);
+        final var email = getString(stringChunk, skipString(stringChunk, titlePosition));
+        return MockEmployee.builder()
+                .id((flags & HAS_ID) != 0
+                        ? new UUID(slotChunk.getLong(base + ID_HI), slotChunk.getLong(base + ID_LO))
+                        : null)
+                .name(name)
+                .salary((flags & HAS_SALARY) != 0 ? slotChunk.getInt(base + SALARY) : null)
+                .age((flags & HAS_AGE) != 0 ? slotChunk.getInt(base + AGE) : null)
+                .title(title)
+                .email(email)
+                .build();
+    }
+
+    private static byte[] encode(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    private static int length(byte[] bytes) {
+        return bytes != null ? bytes.length : 0;
+    }
+
+    private static int putBytes(MappedByteBuffer chunk, int position, byte[] bytes) {
+        if (bytes == null) {
+            chunk.putInt(position, -1);
+            return position + Integer.BYTES;
+        }
+        chunk.putInt(position, bytes.length);
+        chunk.put(position + Integer.BYTES, bytes);
+        return position + Integer.BYTES + bytes.length;
+    }
+
+    private static String getString(MappedByteBuffer chunk, int position) {
+        final var length = chunk.getInt(position);
+        if (length < 0) {
+            return null;
+        }
+        final var bytes = new byte[length];
+        chunk.get(position + Integer.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int skipString(MappedByteBuffer chunk, int position) {
+        return position + Integer.BYTES + Math.max(0, chunk.getInt(position));
+    }
+
+    /**
+     * A file mapped in fixed-size chunks, grown one chunk at a time and addressed by absolute offsets only
+     */
+    private static final class MappedRegion implements Closeable {
+
+        private final Path path;
+        private final int chunkBytes;
+        private final FileChannel channel;
+
+        private volatile MappedByteBuffer[] chunks = new MappedByteBuffer[0];
+
+        MappedRegion(Path path, int chunkBytes) throws IOException {
+            this.path = path;
+            this.chunkBytes = chunkBytes;
+            this.channel = FileChannel.open(
+                    path,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+        }
+
+        void ensureCapacity(long end) throws IOException {
+            var grown = chunks;
+            while ((long) grown.length * chunkBytes < end) {
+                grown = Arrays.copyOf(grown, grown.length + 1);
+                grown[grown.length - 1] =
+                        channel.map(FileChannel.MapMode.READ_WRITE, (long) (grown.length - 1) * chunkBytes, chunkBytes);
+            }
+            chunks = grown;
+        }
+
+        MappedByteBuffer chunk(long offset) {
+            return chunks[(int) (offset / chunkBytes)];
+        }
+
+        int position(long offset) {
+            return (int) (offset % chunkBytes);
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    /**
+     * Open-addressing hash table from UUID to slot, held in three primitive arrays
+     */
+    private static final class IdIndex {
+
+        private static final int EMPTY = -1;
+        private static final int REMOVED = -2;
+
+        private long[] mostSignificantBits = new long[16];
+        private long[] leastSignificantBits = new long[16];
+        private int[] slots = filled(16);
+        private int used;
+
+        int get(long hi, long lo) {
+            final var mask = slots.length - 1;
+            for (int index = hash(hi, lo) & mask; ; index = (index + 1) & mask) {
+                final var slot = slots[index];
+                if (slot == EMPTY) {
+                    return -1;
+                }
+                if (slot != REMOVED && mostSignificantBits[index] == hi && leastSignificantBits[index] == lo) {
+                    return slot;
+                }
+            }
+        }
+
+        void put(long hi, long lo, int slot) {
+            if ((used + 1) * 2 > slots.length) {
+                resize();
+            }
+            final var mask = slots.length - 1;
+            var index = hash(hi, lo) & mask;
+            while (slots[index] != EMPTY) {
+                index = (index + 1) & mask;
+            }
+            mostSignificantBits[index] = hi;
+            leastSignificantBits[index] = lo;
+            slots[index] = slot;
+            used++;
+        }
+
+        void remove(long hi, long lo) {
+            final var mask = slots.length - 1;
+            for (int index = hash(hi, lo) & mask; slots[index] != EMPTY; index = (index + 1) & mask) {
+                if (slots[index] != REMOVED
+                        && mostSignificantBits[index] == hi
+                        && leastSignificantBits[index] == lo) {
+                    slots[index] = REMOVED;
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Rehashes live entries, dropping removed markers and doubling only when mostly live
+         */
+        private void resize() {
+            final var oldHi = mostSignificantBits;
+            final var oldLo = leastSignificantBits;
+            final var oldSlots = slots;
+            var live = 0;
+            for (int slot : oldSlots) {
+                if (slot >= 0) {
+                    live++;
+                }
+            }
+            final var capacity = (live + 1) * 4 > oldSlots.length ? oldSlots.length * 2 : oldSlots.length;
+            mostSignificantBits = new long[capacity];
+            leastSignificantBits = new long[capacity];
+            slots = filled(capacity);
+            used = 0;
+            for (int index = 0; index < oldSlots.length; index++) {
+                if (oldSlots[index] >= 0) {
+                    put(oldHi[index], oldLo[index], oldSlots[index]);
+                }
+            }
+        }
+
+        private static int[] filled(int capacity) {
+            final var slots = new int[capacity];
+            Arrays.fill(slots, EMPTY);
+            return slots;
+        }
+
+        private static int hash(long hi, long lo) {
+            var hash = hi * 0x9E3779B97F4A7C15L ^ lo;
+            hash ^= hash >>> 32;
+            hash *= 0xD6E8FEB86659FD93L;
+            return (int) (hash ^ (hash >>> 32));
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.reliaquest.server.web;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * Reads an Accept-Encoding header the way RFC 9110 does: a coding listed with {@code q=0} is refused, and a coding
+ * not listed at all is only acceptable through a non-zero {@code *} entry
+ */
+public final class AcceptEncoding {
+
+    private static final String GZIP = "gzip";
+
+    private AcceptEncoding() {}
+
+    /**
+     * Whether the roster may be served gzipped: an explicit gzip (or x-gzip) entry decides, then {@code *}
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (!StringUtils.hasText(acceptEncoding)) {
+            return false;
+        }
+        var gzipQuality = -1.0;
+        var wildcardQuality = -1.0;
+        for (String entry : acceptEncoding.split(",")) {
+            final var parts = entry.split(";");
+            final var coding = parts[0].trim();
+            final var quality = quality(parts);
+            if (coding.equalsIgnoreCase(GZIP) || coding.equalsIgnoreCase("x-" + GZIP)) {
+                gzipQuality = Math.max(gzipQuality, quality);
+            } else if (coding.equals("*")) {
+                wildcardQuality = Math.max(wildcardQuality, quality);
+            }
+        }
+        return gzipQuality >= 0 ? gzipQuality > 0 : wildcardQuality > 0;
+    }
+
+    /* 1 when no q parameter is given; a malformed one counts as 0, so the coding is not used */
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            final var parameter = parts[i].trim();
+            if (parameter.length() > 1 && Character.toLowerCase(parameter.charAt(0)) == 'q') {
+                final var value = parameter.substring(1).trim();
+                if (!value.startsWith("=")) {
+                    continue;
+                }
+                try {
+                    final var quality = Double.parseDouble(value.substring(1).trim());
+                    return quality >= 0 && quality <= 1 ? quality : 0;
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,239 @@
+package com.reliaquest.server.web;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * Injects latency, 5xx responses, dropped connections and slow-drip bodies into matching requests, as configured
+ * under mock.chaos. Runs before everything else, including the request limit, so injected faults do not count
+ * against it. The nth request always draws the same random numbers from the configured seed, whichever thread
+ * serves it, so a load test replaying the same request sequence sees the same faults.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "mock.chaos.enabled", havingValue = "true")
+public class ChaosFilter extends OncePerRequestFilter {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final byte[] DROPPED_BODY_PREFIX = "{\"data\":[".getBytes(StandardCharsets.UTF_8);
+    private static final int DROPPED_BODY_LENGTH = 1 << 16;
+    private static final long DRIP_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final long seed;
+    private final List<MatchedRule> rules;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public ChaosFilter(ChaosProperties properties) {
+        this.seed = properties.seed();
+        this.rules = properties.rules().stream()
+                .map(rule -> new MatchedRule(
+                        rule, rule.path() != null ? PathPatternParser.defaultInstance.parse(rule.path()) : null))
+                .toList();
+        log.warn("Chaos mode enabled with seed {} and {} rule(s)", seed, rules.size());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        final var rule = match(request);
+        if (rule == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        /* every draw is made up front and in the same order, so each request's faults depend only on its number */
+        final var random = new SplittableRandom(seed + sequence.getAndIncrement() * GOLDEN_GAMMA);
+        final var delayNanos = latencyNanos(rule.latency(), random);
+        final var drop = random.nextDouble() < rule.dropRate();
+        final var error = random.nextDouble() < rule.errorRate();
+        final var drip = random.nextDouble() < rule.dripRate();
+
+        if (delayNanos > 0 && !sleep(delayNanos)) {
+            return;
+        }
+        if (drop) {
+            log.debug("Dropping connection for {} {}", request.getMethod(), request.getRequestURI());
+            dropConnection(response);
+        } else if (error) {
+            log.debug("Answering {} {} with {}", request.getMethod(), request.getRequestURI(), rule.errorStatus());
+            response.setStatus(rule.errorStatus());
+        } else if (drip) {
+            filterChain.doFilter(request, new DrippingResponse(response, rule.dripBytesPerSecond()));
+        } else {
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    private ChaosProperties.Rule match(HttpServletRequest request) {
+        PathContainer path = null;
+        for (MatchedRule matched : rules) {
+            if (matched.rule().method() != null && !matched.rule().method().equalsIgnoreCase(request.getMethod())) {
+                continue;
+            }
+            if (matched.pattern() != null) {
+                if (path == null) {
+                    path = PathContainer.parsePath(request.getRequestURI());
+                }
+                if (!matched.pattern().matches(path)) {
+                    continue;
+                }
+            }
+            return matched.rule();
+        }
+        return null;
+    }
+
+    private static long latencyNanos(ChaosProperties.Latency latency, SplittableRandom random) {
+        final var min = latency.min().toNanos();
+        final var max = Math.max(min, latency.max().toNanos());
+        final var sample = random.nextDouble();
+        return switch (latency.distribution()) {
+            case NONE -> 0;
+            case FIXED -> min;
+            case UNIFORM -> min + (long) (sample * (max - min));
+            case EXPONENTIAL -> Math.min(max, min + (long) (-Math.log(1 - sample) * latency.mean().toNanos()));
+        };
+    }
+
+    /*
+     * Declares a body longer than the one sent and closes the connection after the first bytes, which the client
+     * sees as the connection dropping mid-response. Content-Encoding identity opts out of server.compression, which
+     * would otherwise drop the declared length and send the short body as a complete chunked response.
+     */
+    private static void dropConnection(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.CONNECTION, "close");
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, "identity");
+        response.setContentLength(DROPPED_BODY_LENGTH);
+        final var out = response.getOutputStream();
+        out.write(DROPPED_BODY_PREFIX);
+        out.flush();
+    }
+
+    /*
+     * Returns false when interrupted, in which case the request is abandoned.
+     */
+    private static boolean sleep(long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record MatchedRule(ChaosProperties.Rule rule, PathPattern pattern) {}
+
+    /**
+     * Writes the body in small flushed chunks at a fixed byte rate
+     */
+    private static final class DrippingResponse extends HttpServletResponseWrapper {
+
+        private final int bytesPerSecond;
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+
+        DrippingResponse(HttpServletResponse response, int bytesPerSecond) {
+            super(response);
+            this.bytesPerSecond = Math.max(1, bytesPerSecond);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new DrippingOutputStream(super.getOutputStream(), bytesPerSecond);
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharacterEncoding()));
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            super.flushBuffer();
+        }
+    }
+
+    private static final class DrippingOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+        private final int chunkSize;
+
+        DrippingOutputStream(ServletOutputStream delegate, int bytesPerSecond) {
+            this.delegate = delegate;
+            this.chunkSize = (int) Math.max(1, bytesPerSecond * DRIP_INTERVAL_NANOS / TimeUnit.SECONDS.toNanos(1));
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            for (int written = 0; written < length; written += chunkSize) {
+                delegate.write(bytes, offset + written, Math.min(chunkSize, length - written));
+                delegate.flush();
+                if (!sleep(DRIP_INTERVAL_NANOS)) {
+                    throw new IOException("Interrupted while dripping response body");
+                }
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
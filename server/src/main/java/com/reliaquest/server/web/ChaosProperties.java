@@ -0,0 +1,42 @@
+package com.reliaquest.server.web;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Faults ChaosFilter injects, per endpoint. Rules are matched in order by HTTP method and path pattern, and the
+ * first match applies. Rates are probabilities between 0 and 1, drawn independently for every matching request.
+ */
+@ConfigurationProperties("mock.chaos")
+public record ChaosProperties(boolean enabled, long seed, List<Rule> rules) {
+
+    public ChaosProperties {
+        rules = rules == null ? List.of() : List.copyOf(rules);
+    }
+
+    /**
+     * @param method HTTP method to match, or null for any
+     * @param path path pattern to match, e.g. /api/v1/employee/{id}
+     * @param latency latency added before the request is handled
+     * @param errorRate share of requests answered with errorStatus instead of being handled
+     * @param dropRate share of requests whose connection is closed part way through the body
+     * @param dripRate share of requests whose body is written at dripBytesPerSecond
+     */
+    public record Rule(
+            String method,
+            String path,
+            @DefaultValue Latency latency,
+            double errorRate,
+            @DefaultValue("503") int errorStatus,
+            double dropRate,
+            double dripRate,
+            @DefaultValue("1024") int dripBytesPerSecond) {}
+
+    public record Latency(
+            @DefaultValue("NONE") LatencyDistribution distribution,
+            @DefaultValue("0ms") Duration min,
+            @DefaultValue("0ms") Duration mean,
+            @DefaultValue("30s") Duration max) {}
+}
@@ -0,0 +1,23 @@
+package com.reliaquest.server.web;
+
+/**
+ * Shape of the latency ChaosFilter adds to a matching request, see ChaosProperties.Latency
+ */
+public enum LatencyDistribution {
+    /**
+     * No added latency
+     */
+    NONE,
+    /**
+     * Always min
+     */
+    FIXED,
+    /**
+     * Uniform between min and max
+     */
+    UNIFORM,
+    /**
+     * min plus an exponential tail with the given mean, capped at max; mostly fast with occasional slow requests
+     */
+    EXPONENTIAL
+}
@@ -0,0 +1,50 @@
+package com.reliaquest.server.web;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * Wire formats the roster response can be served in; JSON unless the client explicitly accepts Smile
+ */
+public enum RosterFormat {
+    JSON(MediaType.APPLICATION_JSON),
+    SMILE(new MediaType("application", "x-jackson-smile"));
+
+    private final MediaType mediaType;
+
+    RosterFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Picks the format from an Accept header: by quality first, then by specificity, then in the order listed.
+     * Smile is only served for an explicit Smile entry with a non-zero quality.
+     */
+    public static RosterFormat negotiate(String accept) {
+        if (accept == null || !accept.contains(SMILE.mediaType.getSubtype())) {
+            return JSON;
+        }
+        final var accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        MimeTypeUtils.sortBySpecificity(accepted);
+        /* stable, so entries of equal quality keep their specificity order */
+        accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType mediaType : accepted) {
+            if (mediaType.getQualityValue() == 0) {
+                break;
+            }
+            if (mediaType.equalsTypeAndSubtype(SMILE.mediaType)) {
+                return SMILE;
+            }
+            if (mediaType.isCompatibleWith(JSON.mediaType)) {
+                return JSON;
+            }
+        }
+        return JSON;
+    }
+}
@@ -0,0 +1,167 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.store.EmployeeStore;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caches the serialised roster response, per {@link RosterFormat} and plain or gzipped, in direct buffers keyed by
+ * the store version. Any create or delete bumps the version, so the next read rebuilds the body once and every read
+ * after that only writes the cached bytes. Bodies larger than {@code mock.response-cache.max-bytes} are not cached.
+ */
+@Slf4j
+@Component
+public class RosterResponseCache {
+
+    private final EmployeeStore employeeStore;
+    private final Map<RosterFormat, ObjectWriter> employeeWriters = new EnumMap<>(RosterFormat.class);
+    private final int maxBytes;
+    private final Object rebuildLock = new Object();
+    private final AtomicReferenceArray<CachedBody> bodies =
+            new AtomicReferenceArray<>(RosterFormat.values().length * 2);
+
+    public RosterResponseCache(
+            EmployeeStore employeeStore,
+            ObjectMapper objectMapper,
+            @Value("${mock.response-cache.max-bytes:268435456}") int maxBytes) {
+        this.employeeStore = employeeStore;
+        this.employeeWriters.put(RosterFormat.JSON, employeeWriter(objectMapper));
+        this.employeeWriters.put(RosterFormat.SMILE, employeeWriter(objectMapper.copyWith(new SmileFactory())));
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Read-only view of the serialised roster for the current store version, or empty if it is too large to cache
+     */
+    public Optional<ByteBuffer> get(RosterFormat format, boolean gzip) {
+        final var slot = format.ordinal() * 2 + (gzip ? 1 : 0);
+        var cached = bodies.get(slot);
+        if (cached == null || cached.version() != employeeStore.version()) {
+            synchronized (rebuildLock) {
+                cached = bodies.get(slot);
+                if (cached == null || cached.version() != employeeStore.version()) {
+                    cached = build(format, gzip);
+                    bodies.set(slot, cached);
+                }
+            }
+        }
+        return cached.body() != null ? Optional.of(cached.body().asReadOnlyBuffer()) : Optional.empty();
+    }
+
+    /**
+     * Writes the roster envelope element by element, as Response.handledWith would serialise it
+     */
+    public void writeRoster(RosterFormat format, OutputStream out, Iterable<MockEmployee> employees)
+            throws IOException {
+        final var employeeWriter = employeeWriters.get(format);
+        try (var generator = employeeWriter.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("data");
+            for (MockEmployee employee : employees) {
+                employeeWriter.writeValue(generator, employee);
+            }
+            generator.writeEndArray();
+            generator.writeObjectField("status", Response.Status.HANDLED);
+            generator.writeEndObject();
+        }
+    }
+
+    private CachedBody build(RosterFormat format, boolean gzip) {
+        final long version;
+        final List<MockEmployee> employees;
+        synchronized (employeeStore) {
+            version = employeeStore.version();
+            employees = employeeStore.findAll();
+        }
+
+        final var started = System.nanoTime();
+        final var bytes = new BoundedOutputStream(maxBytes);
+        try {
+            writeRoster(format, gzip ? new GZIPOutputStream(bytes, 1 << 16) : bytes, employees);
+        } catch (BodyTooLargeException e) {
+            log.debug("{} roster response exceeds {} bytes, not caching version {}", format, maxBytes, version);
+            return new CachedBody(version, null);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to serialise roster", e);
+        }
+        final var body = ByteBuffer.allocateDirect(bytes.size());
+        body.put(bytes.buffer(), 0, bytes.size()).flip();
+        log.debug(
+                "Cached {} {} roster response for version {}: {} bytes in {}ms",
+                format,
+                gzip ? "gzip" : "identity",
+                version,
+                bytes.size(),
+                (System.nanoTime() - started) / 1_000_000);
+        return new CachedBody(version, body);
+    }
+
+    private static ObjectWriter employeeWriter(ObjectMapper objectMapper) {
+        return objectMapper.writerFor(MockEmployee.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    private record CachedBody(long version, ByteBuffer body) {}
+
+    private static final class BodyTooLargeException extends IOException {}
+
+    /**
+     * Growable byte buffer that refuses to grow beyond the cache limit
+     */
+    private static final class BoundedOutputStream extends OutputStream {
+
+        private final int maxBytes;
+        private byte[] buffer = new byte[1 << 16];
+        private int size;
+
+        BoundedOutputStream(int maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            ensureCapacity(1);
+            buffer[size++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            ensureCapacity(length);
+            System.arraycopy(bytes, offset, buffer, size, length);
+            size += length;
+        }
+
+        byte[] buffer() {
+            return buffer;
+        }
+
+        int size() {
+            return size;
+        }
+
+        private void ensureCapacity(int length) throws BodyTooLargeException {
+            if (size + length > maxBytes) {
+                throw new BodyTooLargeException();
+            }
+            if (size + length > buffer.length) {
+                buffer = Arrays.copyOf(buffer, (int) Math.min(maxBytes, Math.max(size + length, 2L * buffer.length)));
+            }
+        }
+    }
+}
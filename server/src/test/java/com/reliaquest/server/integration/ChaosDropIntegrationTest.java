@@ -0,0 +1,76 @@
+package com.reliaquest.server.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Dropped connections injected by ChaosFilter, through the real server with response compression enabled
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(
+        properties = {
+            "server.compression.enabled=true",
+            "mock.chaos.enabled=true",
+            "mock.chaos.rules[0].method=GET",
+            "mock.chaos.rules[0].path=/api/v1/employee/{id}",
+            "mock.chaos.rules[0].drop-rate=1"
+        })
+class ChaosDropIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void droppedResponse_IsCutShortEvenWhenClientAcceptsGzip() throws IOException {
+        // When
+        final byte[] response;
+        try (var socket = new Socket("localhost", port)) {
+            socket.setSoTimeout(10_000);
+            final var request = "GET /api/v1/employee/" + UUID.randomUUID() + " HTTP/1.1\r\n"
+                    + "Host: localhost\r\n"
+                    + "Accept: application/json\r\n"
+                    + "Accept-Encoding: gzip\r\n"
+                    + "\r\n";
+            socket.getOutputStream().write(request.getBytes(StandardCharsets.US_ASCII));
+            response = readUntilClosed(socket.getInputStream());
+        }
+
+        // Then
+        final var text = new String(response, StandardCharsets.ISO_8859_1);
+        final var headerEnd = text.indexOf("\r\n\r\n");
+        assertTrue(headerEnd > 0, text);
+        final var headers = text.substring(0, headerEnd).toLowerCase(Locale.ROOT);
+        assertTrue(headers.contains("content-length: 65536"), headers);
+        assertFalse(headers.contains("transfer-encoding"), headers);
+        assertFalse(headers.contains("content-encoding: gzip"), headers);
+        assertTrue(response.length - headerEnd - 4 < 65536);
+    }
+
+    /*
+     * Reads until the server closes the connection, which may end in a reset rather than an orderly close.
+     */
+    private static byte[] readUntilClosed(InputStream in) throws IOException {
+        final var bytes = new ByteArrayOutputStream();
+        final var buffer = new byte[8192];
+        try {
+            for (int read = in.read(buffer); read >= 0; read = in.read(buffer)) {
+                bytes.write(buffer, 0, read);
+            }
+        } catch (SocketException e) {
+            // connection reset after the partial body
+        }
+        return bytes.toByteArray();
+    }
+}
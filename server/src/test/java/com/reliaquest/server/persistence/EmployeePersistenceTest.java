@@ -0,0 +1,143 @@
+package com.reliaquest.server.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.HeapEmployeeStore;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class EmployeePersistenceTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recover_WithoutSnapshot_ReturnsFalse() throws IOException {
+        // Given
+        final var persistence = new EmployeePersistence(directory, FsyncPolicy.GROUP);
+
+        // When & Then
+        assertFalse(persistence.recover(new HeapEmployeeStore()));
+    }
+
+    @Test
+    void recover_RestoresSnapshotAndLoggedChanges() throws IOException {
+        // Given
+        final var john = employee("John Doe");
+        final var jane = employee("Jane Smith");
+        final var al = employee("Al Johnson");
+        final var store = new HeapEmployeeStore();
+        store.add(john);
+        store.add(jane);
+        final var persistence = new EmployeePersistence(directory, FsyncPolicy.GROUP);
+        persistence.initialize(store);
+        persistence.awaitDurable(persistence.recordCreate(al));
+        persistence.awaitDurable(persistence.recordDelete(john.getId()));
+        persistence.destroy();
+
+        // When
+        final var recovered = new HeapEmployeeStore();
+        final var restored = new EmployeePersistence(directory, FsyncPolicy.GROUP).recover(recovered);
+
+        // Then
+        assertTrue(restored);
+        assertEquals(List.of(jane, al), recovered.findAll());
+    }
+
+    @Test
+    void compact_DropsCoveredSegmentsAndRecoveryReplaysOnlyLaterChanges() throws IOException {
+        // Given
+        final var john = employee("John Doe");
+        final var jane = employee("Jane Smith");
+        final var al = employee("Al Johnson");
+        final var persistence = new EmployeePersistence(directory, FsyncPolicy.ALWAYS);
+        persistence.initialize(new HeapEmployeeStore());
+        persistence.recordCreate(john);
+        persistence.recordCreate(jane);
+
+        // When
+        final var sequence = persistence.checkpoint();
+        persistence.compact(List.of(john, jane), sequence);
+        persistence.recordCreate(al);
+        persistence.recordDelete(jane.getId());
+        persistence.destroy();
+
+        // Then
+        assertEquals(2, sequence);
+        assertEquals(List.of("wal-00000000000000000003.log"), walSegmentNames());
+        final var recovered = new HeapEmployeeStore();
+        assertTrue(new EmployeePersistence(directory, FsyncPolicy.ALWAYS).recover(recovered));
+        assertEquals(List.of(john, al), recovered.findAll());
+    }
+
+    @Test
+    void recover_AfterTornTail_KeepsEarlierChangesAndContinuesLogging() throws IOException {
+        // Given: a crash cut the last logged create short
+        final var john = employee("John Doe");
+        final var jane = employee("Jane Smith");
+        final var persistence = new EmployeePersistence(directory, FsyncPolicy.ALWAYS);
+        persistence.initialize(new HeapEmployeeStore());
+        persistence.recordCreate(john);
+        persistence.recordCreate(jane);
+        persistence.destroy();
+        final var segment = directory.resolve("wal").resolve(walSegmentNames().get(0));
+        Files.write(segment, Arrays.copyOf(Files.readAllBytes(segment), (int) Files.size(segment) - 1));
+
+        // When
+        final var recovered = new HeapEmployeeStore();
+        final var restarted = new EmployeePersistence(directory, FsyncPolicy.ALWAYS);
+        restarted.recover(recovered);
+        final var al = employee("Al Johnson");
+        restarted.recordCreate(al);
+        restarted.destroy();
+
+        // Then
+        assertEquals(List.of(john), recovered.findAll());
+        final var afterSecondRestart = new HeapEmployeeStore();
+        new EmployeePersistence(directory, FsyncPolicy.ALWAYS).recover(afterSecondRestart);
+        assertEquals(List.of(john, al), afterSecondRestart.findAll());
+    }
+
+    @Test
+    void recover_CorruptSnapshot_Fails() throws IOException {
+        // Given
+        final var store = new HeapEmployeeStore();
+        store.add(employee("John Doe"));
+        final var persistence = new EmployeePersistence(directory, FsyncPolicy.ALWAYS);
+        persistence.initialize(store);
+        persistence.destroy();
+        final var snapshot = directory.resolve("employees.snapshot");
+        final var bytes = Files.readAllBytes(snapshot);
+        bytes[bytes.length / 2] ^= 0x5a;
+        Files.write(snapshot, bytes);
+
+        // When & Then
+        final var restarted = new EmployeePersistence(directory, FsyncPolicy.ALWAYS);
+        assertThrows(IOException.class, () -> restarted.recover(new HeapEmployeeStore()));
+    }
+
+    private List<String> walSegmentNames() throws IOException {
+        try (Stream<Path> files = Files.list(directory.resolve("wal"))) {
+            return files.map(file -> file.getFileName().toString()).sorted().toList();
+        }
+    }
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(50000)
+                .age(30)
+                .title("Developer")
+                .email(name.toLowerCase().replace(' ', '.') + "@company.com")
+                .build();
+    }
+}
@@ -0,0 +1,314 @@
+package com.reliaquest.server.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class WriteAheadLogTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void replay_AppliesEntriesInOrderAfterReopen() throws IOException {
+        // Given
+        final var john = employee("John Doe");
+        final var jane = employee("Jane Smith");
+        try (var wal = new WriteAheadLog(directory, FsyncPolicy.ALWAYS)) {
+            wal.open(0);
+            wal.appendCreate(john);
+            wal.appendCreate(jane);
+            wal.appendDelete(john.getId());
+        }
+
+        // When
+        final var replayed = new RecordingReplay();
+        final var last = new WriteAheadLog(directory, FsyncPolicy.ALWAYS).replay(0, replayed);
+
+        // Then
+        assertEquals(3, last);
+        assertEquals(List.of("created " + john, "created " + jane, "deleted " + john.getId()), replayed.entries);
+        assertEquals(john, replayed.created.get(0));
+    }
+
+    @Test
+    void replay_SkipsEntriesCoveredBySnapshotSequence() throws IOException {
+        // Given
+        final var john = employee("John Doe");
+        try (var wal = new WriteAheadLog(directory, FsyncPolicy.NEVER)) {
+            wal.open(0);
+            wal.appendCreate(john);
+            wal.appendCreate(employee("Jane Smith"));
+            wal.appendDelete(john.getId());
+        }
+
+        // When
+        final var replayed = new RecordingReplay();
+        final var last = new WriteAheadLog(directory, FsyncPolicy.NEVER).replay(2, replayed);
+
+        // Then
+        assertEquals(3, last);
+        assertEquals(List.of("deleted " + john.getId()), replayed.entries);
+    }
+
+    @Test
+    void replay_TruncatesTornTailAndAppendsContinueAfterIt() throws IOException {
+        // Given: the last record of the newest segment is cut short, as by a crash mid-write
+        final var john = employee("John Doe");
+        final var jane = employee("Jane Smith");
+        try (var wal = new WriteAheadLog(directory, FsyncPolicy.ALWAYS)) {
+            wal.open(0);
+            wal.appendCreate(john);
+            wal.appendCreate(jane);
+        }
+        final var segment = onlySegment();
+        final var intactLength = intactLengthOfFirstRecord(segment);
+        truncate(segment, Files.size(segment) - 3);
+
+        // When
+        final var replayed = new RecordingReplay();
+        final var wal = new WriteAheadLog(directory, FsyncPolicy.ALWAYS);
+        final var last = wal.replay(0, replayed);
+        wal.open(last);
+        final var next = wal.appendCreate(employee("Al Johnson"));
+        wal.close();
+
+        // Then
+        assertEquals(1, last);
+        assertEquals(List.of("created " + john), replayed.entries);
+        assertEquals(intactLength, Files.size(segment));
+        assertEquals(2, next);
+        final var afterRestart = new RecordingReplay();
+        assertEquals(2, new WriteAheadLog(directory, FsyncPolicy.ALWAYS).replay(0, afterRestart));
+        assertEquals(2, afterRestart.created.size());
+        assertEquals("Al Johnson", afterRestart.created.get(1).getName());
+    }
+
+    @Test
+    void replay_TruncatesCorruptRecordAtTail() throws IOException {
+        // Given
+        try (var wal = new WriteAheadLog(directory, FsyncPolicy.ALWAYS)) {
+            wal.open(0);
+            wal.appendCreate(employee("John Doe"));
+            wal.appendCreate(employee("Jane Smith"));
+        }
+        final var segment = onlySegment();
+        final var intactLength = intactLengthOfFirstRecord(segment);
+        flipByte(segment, Files.size(segment) - 1);
+
+        // When
+        final var replayed = new RecordingReplay();
+        final var last = new WriteAheadLog(directory, FsyncPolicy.ALWAYS).replay(0, replayed);
+
+        // Then
+        assertEquals(1, last);
+        assertEquals(intactLength, Files.size(segment));
+    }
+
+    @Test
+    void replay_FailsOnCorruptRecordBeforeNewestSegment() throws IOException {
+        // Given
+        try (var wal = new WriteAheadLog(directory, FsyncPolicy.ALWAYS)) {
+            wal.open(0);
+            wal.appendCreate(employee("John Doe"));
+            wal.rotate();
+            wal.appendCreate(employee("Jane Smith"));
+        }
+        final var sealed = segments().get(0);
+        final var sealedLength = Files.size(sealed);
+        flipByte(sealed, sealedLength - 1);
+
+        // When & Then
+        final var wal = new WriteAheadLog(directory, FsyncPolicy.ALWAYS);
+        assertThrows(IOException.class, () -> wal.replay(0, new RecordingReplay()));
+        assertEquals(sealedLength, Files.size(sealed));
+    }
+
+    @Test
+    void rotate_StartsNewSegmentAndCoveredSegmentsAreDeleted() throws IOException {
+        // Given
+        final var wal = new WriteAheadLog(directory, FsyncPolicy.ALWAYS);
+        wal.open(0);
+        wal.appendCreate(employee("John Doe"));
+        wal.appendCreate(employee("Jane Smith"));
+
+        // When
+        final var checkpoint = wal.rotate();
+        final var emptyRotation = wal.rotate();
+        wal.appendCreate(employee("Al Johnson"));
+        wal.deleteSegmentsThrough(checkpoint);
+        wal.close();
+
+        // Then
+        assertEquals(2, checkpoint);
+        assertEquals(2, emptyRotation);
+        assertEquals(List.of("wal-00000000000000000003.log"), segmentNames());
+        final var replayed = new RecordingReplay();
+        assertEquals(3, new WriteAheadLog(directory, FsyncPolicy.ALWAYS).replay(checkpoint, replayed));
+        assertEquals(List.of("Al Johnson"), replayed.names());
+    }
+
+    @Test
+    void deleteSegmentsThrough_KeepsSegmentsWithLaterEntries() throws IOException {
+        // Given
+        final var wal = new WriteAheadLog(directory, FsyncPolicy.ALWAYS);
+        wal.open(0);
+        wal.appendCreate(employee("John Doe"));
+        wal.rotate();
+        wal.appendCreate(employee("Jane Smith"));
+        wal.appendCreate(employee("Al Johnson"));
+        wal.rotate();
+
+        // When: the snapshot covers only part of the second segment
+        wal.deleteSegmentsThrough(2);
+        wal.close();
+
+        // Then
+        assertEquals(List.of("wal-00000000000000000002.log", "wal-00000000000000000004.log"), segmentNames());
+    }
+
+    @Test
+    void groupCommit_BuffersUntilAWriterWaitsAndOneFlushCoversEarlierEntries() throws IOException {
+        // Given
+        final var wal = new WriteAheadLog(directory, FsyncPolicy.GROUP);
+        wal.open(0);
+        final var first = wal.appendCreate(employee("John Doe"));
+        final var second = wal.appendCreate(employee("Jane Smith"));
+        final var segment = onlySegment();
+        assertEquals(0, Files.size(segment));
+
+        // When
+        wal.awaitDurable(second);
+        final var flushedLength = Files.size(segment);
+        wal.awaitDurable(first);
+
+        // Then
+        assertTrue(flushedLength > 0);
+        assertEquals(flushedLength, Files.size(segment));
+        wal.close();
+        final var replayed = new RecordingReplay();
+        assertEquals(2, new WriteAheadLog(directory, FsyncPolicy.GROUP).replay(0, replayed));
+        assertEquals(List.of("John Doe", "Jane Smith"), replayed.names());
+    }
+
+    @Test
+    void groupCommit_ConcurrentWritersAllBecomeDurable() throws Exception {
+        // Given
+        final var wal = new WriteAheadLog(directory, FsyncPolicy.GROUP);
+        wal.open(0);
+        final var writers = 8;
+        final var appendsPerWriter = 50;
+        final var executor = Executors.newFixedThreadPool(writers);
+        final var start = new CountDownLatch(1);
+
+        // When
+        try {
+            final var results = new ArrayList<Future<?>>();
+            for (int writer = 0; writer < writers; writer++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    for (int append = 0; append < appendsPerWriter; append++) {
+                        wal.awaitDurable(wal.appendCreate(employee("Writer")));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        wal.close();
+
+        // Then
+        final var replayed = new RecordingReplay();
+        assertEquals(writers * appendsPerWriter, new WriteAheadLog(directory, FsyncPolicy.GROUP).replay(0, replayed));
+        assertEquals(writers * appendsPerWriter, replayed.created.size());
+    }
+
+    private Path onlySegment() throws IOException {
+        final var segments = segments();
+        assertEquals(1, segments.size());
+        return segments.get(0);
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+
+    private List<String> segmentNames() throws IOException {
+        return segments().stream().map(segment -> segment.getFileName().toString()).toList();
+    }
+
+    /*
+     * Length of the first record, read from its length prefix, plus the prefix and checksum.
+     */
+    private static long intactLengthOfFirstRecord(Path segment) throws IOException {
+        final var bytes = Files.readAllBytes(segment);
+        return Integer.BYTES + Integer.BYTES + ByteBuffer.wrap(bytes).getInt();
+    }
+
+    private static void truncate(Path file, long length) throws IOException {
+        try (var channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(length);
+        }
+    }
+
+    private static void flipByte(Path file, long offset) throws IOException {
+        final var bytes = Files.readAllBytes(file);
+        bytes[(int) offset] ^= 0x5a;
+        Files.write(file, bytes);
+    }
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(50000)
+                .age(30)
+                .title("Developer")
+                .email(name.toLowerCase().replace(' ', '.') + "@company.com")
+                .build();
+    }
+
+    private static final class RecordingReplay implements WriteAheadLog.Replay {
+
+        private final List<String> entries = new ArrayList<>();
+        private final List<MockEmployee> created = new ArrayList<>();
+
+        @Override
+        public void created(MockEmployee employee) {
+            entries.add("created " + employee);
+            created.add(employee);
+        }
+
+        @Override
+        public void deleted(UUID id) {
+            entries.add("deleted " + id);
+        }
+
+        List<String> names() {
+            return created.stream().map(MockEmployee::getName).toList();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class OffHeapEmployeeStoreTest {
+
+    private static final String[] NAMES = {
+        "John Doe", "JOHN DOE", "Jane Smith", "Zo\u00eb \u00c5ngstr\u00f6m", "Al Johnson", null
+    };
+
+    @TempDir
+    Path directory;
+
+    private OffHeapEmployeeStore offHeap;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // 4 slots and 128 string bytes per chunk, so a few employees already cross both kinds of chunk boundary
+        offHeap = new OffHeapEmployeeStore(directory.resolve("store"), 4, 128);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        offHeap.close();
+    }
+
+    @Test
+    void sameOperations_AgreeWithHeapStore() {
+        // Given
+        final var heap = new HeapEmployeeStore();
+        final var random = new Random(42);
+        final var ids = new ArrayList<UUID>();
+        List<MockEmployee> earlyView = null;
+        List<MockEmployee> earlyExpected = null;
+
+        // When & Then
+        for (int operation = 0; operation < 2_000; operation++) {
+            final var choice = random.nextInt(10);
+            if (choice < 6 || ids.isEmpty()) {
+                final var employee = employee(random);
+                heap.add(employee);
+                offHeap.add(employee);
+                ids.add(employee.getId());
+            } else if (choice < 8) {
+                final var id = ids.get(random.nextInt(ids.size()));
+                assertEquals(heap.remove(id), offHeap.remove(id));
+            } else {
+                final var name = NAMES[random.nextInt(NAMES.length - 1)];
+                final var variant =
+                        random.nextBoolean() ? name.toUpperCase(Locale.ROOT) : name.toLowerCase(Locale.ROOT);
+                assertEquals(heap.removeFirstByName(variant), offHeap.removeFirstByName(variant));
+            }
+            if (operation == 100) {
+                earlyView = offHeap.findAll();
+                earlyExpected = heap.findAll();
+            }
+            if (operation % 50 == 0) {
+                assertSameContents(heap, ids);
+            }
+        }
+        assertSameContents(heap, ids);
+        assertEquals(earlyExpected, earlyView);
+    }
+
+    @Test
+    void findById_StaysConsistentThroughDeletesAndIndexResizes() {
+        // Given: the removed ids leave markers behind that later puts must rehash away
+        final var random = new Random(7);
+        final var removed = new ArrayList<MockEmployee>();
+        for (int index = 0; index < 100; index++) {
+            final var employee = employee(random);
+            offHeap.add(employee);
+            removed.add(employee);
+        }
+        removed.forEach(employee -> assertTrue(offHeap.remove(employee.getId())));
+
+        // When
+        final var kept = new ArrayList<MockEmployee>();
+        for (int index = 0; index < 100; index++) {
+            final var employee = employee(random);
+            offHeap.add(employee);
+            kept.add(employee);
+        }
+
+        // Then
+        assertEquals(100, offHeap.size());
+        removed.forEach(employee -> assertTrue(offHeap.findById(employee.getId()).isEmpty()));
+        kept.forEach(employee -> assertEquals(employee, offHeap.findById(employee.getId()).orElseThrow()));
+        assertEquals(kept, offHeap.findAll());
+    }
+
+    @Test
+    void add_StringsLargerThanAChunk_IsRejected() {
+        // Given
+        final var employee = MockEmployee.builder().id(UUID.randomUUID()).name("x".repeat(200)).build();
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> offHeap.add(employee));
+        assertEquals(0, offHeap.size());
+        assertTrue(offHeap.findAll().isEmpty());
+    }
+
+    private void assertSameContents(HeapEmployeeStore heap, List<UUID> ids) {
+        assertEquals(heap.size(), offHeap.size());
+        assertEquals(heap.version(), offHeap.version());
+        assertEquals(heap.findAll(), offHeap.findAll());
+        for (UUID id : ids) {
+            assertEquals(heap.findById(id), offHeap.findById(id));
+        }
+    }
+
+    private static MockEmployee employee(Random random) {
+        final var name = NAMES[random.nextInt(NAMES.length)];
+        return MockEmployee.builder()
+                .id(new UUID(random.nextLong(), random.nextLong()))
+                .name(name)
+                .salary(random.nextInt(4) == 0 ? null : 1_000 + random.nextInt(100_000))
+                .age(random.nextInt(4) == 0 ? null : 18 + random.nextInt(50))
+                .title(random.nextBoolean() ? "Developer" : random.nextBoolean() ? null : "Senior Principal Engineer")
+                .email(name == null ? null : name.toLowerCase(Locale.ROOT).replace(' ', '.') + "@company.com")
+                .build();
+    }
+}
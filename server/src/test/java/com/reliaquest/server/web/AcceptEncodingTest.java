@@ -0,0 +1,38 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class AcceptEncodingTest {
+
+    @Test
+    void acceptsGzip_ListedGzip_IsAccepted() {
+        // When & Then
+        assertTrue(AcceptEncoding.acceptsGzip("gzip"));
+        assertTrue(AcceptEncoding.acceptsGzip("gzip, deflate, br"));
+        assertTrue(AcceptEncoding.acceptsGzip("br;q=1.0, GZIP;q=0.5"));
+        assertTrue(AcceptEncoding.acceptsGzip("x-gzip"));
+    }
+
+    @Test
+    void acceptsGzip_MissingOrUnlistedGzip_IsNotAccepted() {
+        // When & Then
+        assertFalse(AcceptEncoding.acceptsGzip(null));
+        assertFalse(AcceptEncoding.acceptsGzip(""));
+        assertFalse(AcceptEncoding.acceptsGzip("identity"));
+        assertFalse(AcceptEncoding.acceptsGzip("deflate, br"));
+    }
+
+    @Test
+    void acceptsGzip_HonoursQualityValues() {
+        // When & Then
+        assertFalse(AcceptEncoding.acceptsGzip("gzip;q=0"));
+        assertFalse(AcceptEncoding.acceptsGzip("gzip; q=0.0, deflate"));
+        assertFalse(AcceptEncoding.acceptsGzip("gzip;q=0, *"));
+        assertFalse(AcceptEncoding.acceptsGzip("gzip;q=abc"));
+        assertFalse(AcceptEncoding.acceptsGzip("*;q=0"));
+        assertTrue(AcceptEncoding.acceptsGzip("gzip;q=0.1"));
+        assertTrue(AcceptEncoding.acceptsGzip("identity, *;q=0.5"));
+    }
+}
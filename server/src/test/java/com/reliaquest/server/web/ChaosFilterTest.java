@@ -0,0 +1,147 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ChaosFilterTest {
+
+    private static final byte[] BODY = "{\"data\":[\"thirty bytes long\"]}".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void sameSeedAndRequestOrder_InjectSameFaults() throws Exception {
+        // Given
+        final var mixedFaults = rule(0.3, 0.3, 0.0);
+
+        // When
+        final var first = outcomes(new ChaosFilter(properties(7, mixedFaults)), 200);
+        final var replayed = outcomes(new ChaosFilter(properties(7, mixedFaults)), 200);
+        final var otherSeed = outcomes(new ChaosFilter(properties(8, mixedFaults)), 200);
+
+        // Then
+        assertEquals(first, replayed);
+        assertNotEquals(first, otherSeed);
+        assertEquals(Set.of("error", "drop", "handled"), Set.copyOf(first));
+    }
+
+    @Test
+    void nonMatchingRequests_AreHandledAndDoNotShiftTheSequence() throws Exception {
+        // Given
+        final var mixedFaults = rule(0.3, 0.3, 0.0);
+        final var withOtherTraffic = new ChaosFilter(properties(7, mixedFaults));
+        final var expected = outcomes(new ChaosFilter(properties(7, mixedFaults)), 50);
+
+        // When
+        final var outcomes = new ArrayList<String>();
+        for (int request = 0; request < 50; request++) {
+            assertEquals("handled", outcome(withOtherTraffic, "POST"));
+            outcomes.add(outcome(withOtherTraffic, "GET"));
+        }
+
+        // Then
+        assertEquals(expected, outcomes);
+    }
+
+    @Test
+    void error_AnswersWithConfiguredStatusWithoutHandling() throws Exception {
+        // Given
+        final var filter = new ChaosFilter(properties(1, rule(1.0, 0.0, 0.0)));
+        final var response = new MockHttpServletResponse();
+        final var chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(request("GET"), response, chain);
+
+        // Then
+        assertEquals(418, response.getStatus());
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void drop_DeclaresLongerUncompressedBodyThanItSends() throws Exception {
+        // Given
+        final var filter = new ChaosFilter(properties(1, rule(0.0, 1.0, 0.0)));
+        final var response = new MockHttpServletResponse();
+        final var chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(request("GET"), response, chain);
+
+        // Then
+        assertNull(chain.getRequest());
+        assertEquals(200, response.getStatus());
+        assertEquals(1 << 16, response.getContentLength());
+        assertTrue(response.getContentAsByteArray().length < response.getContentLength());
+        assertEquals("close", response.getHeader(HttpHeaders.CONNECTION));
+        assertEquals("identity", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    void drip_WritesWholeBodySlowly() throws Exception {
+        // Given: 100 bytes per second is 10 bytes every 100ms, so the 30 byte body takes three intervals
+        final var filter = new ChaosFilter(properties(1, rule(0.0, 0.0, 1.0)));
+        final var response = new MockHttpServletResponse();
+        final var chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                response.getOutputStream().write(BODY);
+            }
+        });
+
+        // When
+        final var started = System.nanoTime();
+        filter.doFilter(request("GET"), response, chain);
+        final var elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        // Then
+        assertArrayEquals(BODY, response.getContentAsByteArray());
+        assertNotSame(response, chain.getResponse());
+        assertTrue(elapsed.toMillis() >= 250, "took " + elapsed.toMillis() + "ms");
+    }
+
+    private static List<String> outcomes(ChaosFilter filter, int requests) throws Exception {
+        final var outcomes = new ArrayList<String>();
+        for (int request = 0; request < requests; request++) {
+            outcomes.add(outcome(filter, "GET"));
+        }
+        return outcomes;
+    }
+
+    private static String outcome(ChaosFilter filter, String method) throws Exception {
+        final var response = new MockHttpServletResponse();
+        final var chain = new MockFilterChain();
+        filter.doFilter(request(method), response, chain);
+        if (chain.getRequest() != null) {
+            return "handled";
+        }
+        return response.getStatus() == 418 ? "error" : "drop";
+    }
+
+    private static MockHttpServletRequest request(String method) {
+        return new MockHttpServletRequest(method, "/api/v1/employee/4a3a2f0e-4d1f-4b6c-9a53-1f6f0c6d2b11");
+    }
+
+    private static ChaosProperties properties(long seed, ChaosProperties.Rule rule) {
+        return new ChaosProperties(true, seed, List.of(rule));
+    }
+
+    private static ChaosProperties.Rule rule(double errorRate, double dropRate, double dripRate) {
+        final var noLatency =
+                new ChaosProperties.Latency(LatencyDistribution.NONE, Duration.ZERO, Duration.ZERO, Duration.ZERO);
+        return new ChaosProperties.Rule(
+                "GET", "/api/v1/employee/{id}", noLatency, errorRate, 418, dropRate, dripRate, 100);
+    }
+}
@@ -0,0 +1,37 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class RosterFormatTest {
+
+    @Test
+    void negotiate_DefaultsToJson() {
+        // When & Then
+        assertEquals(RosterFormat.JSON, RosterFormat.negotiate(null));
+        assertEquals(RosterFormat.JSON, RosterFormat.negotiate("*/*"));
+        assertEquals(RosterFormat.JSON, RosterFormat.negotiate("application/json"));
+    }
+
+    @Test
+    void negotiate_ExplicitSmile_IsServedAsSmile() {
+        // When & Then
+        assertEquals(RosterFormat.SMILE, RosterFormat.negotiate("application/x-jackson-smile"));
+        assertEquals(RosterFormat.SMILE, RosterFormat.negotiate("application/x-jackson-smile, application/json"));
+        assertEquals(RosterFormat.SMILE, RosterFormat.negotiate("application/x-jackson-smile, */*;q=0.8"));
+        assertEquals(RosterFormat.JSON, RosterFormat.negotiate("application/json, application/x-jackson-smile"));
+    }
+
+    @Test
+    void negotiate_HonoursQualityValues() {
+        // When & Then
+        assertEquals(RosterFormat.JSON, RosterFormat.negotiate("application/x-jackson-smile;q=0, application/json"));
+        assertEquals(RosterFormat.JSON, RosterFormat.negotiate("application/x-jackson-smile;q=0, */*"));
+        assertEquals(RosterFormat.JSON, RosterFormat.negotiate("application/x-jackson-smile;q=0.5, application/json"));
+        assertEquals(
+                RosterFormat.SMILE,
+                RosterFormat.negotiate("application/json;q=0.5, application/x-jackson-smile;q=0.9"));
+        assertEquals(RosterFormat.JSON, RosterFormat.negotiate("application/x-jackson-smile;q=0"));
+    }
+}
@@ -0,0 +1,108 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.persistence.EmployeePersistence;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.store.HeapEmployeeStore;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+class RosterResponseCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HeapEmployeeStore employeeStore = new HeapEmployeeStore();
+    private final MockEmployeeService mockEmployeeService = new MockEmployeeService(
+            new Faker(), employeeStore, new StaticListableBeanFactory().getBeanProvider(EmployeePersistence.class));
+    private final RosterResponseCache rosterResponseCache =
+            new RosterResponseCache(employeeStore, objectMapper, 1 << 20);
+
+    @Test
+    void createAndDelete_ChangeVersionAndNextGetServesNewBody() throws IOException {
+        // Given
+        mockEmployeeService.create(createInput("John Doe"));
+        final var versionBefore = employeeStore.version();
+        final var before = names(RosterFormat.JSON, false);
+
+        // When
+        mockEmployeeService.create(createInput("Jane Smith"));
+        final var versionAfterCreate = employeeStore.version();
+        final var afterCreate = names(RosterFormat.JSON, false);
+        mockEmployeeService.delete(deleteInput("john doe"));
+        final var afterDelete = names(RosterFormat.JSON, false);
+
+        // Then
+        assertEquals(List.of("John Doe"), before);
+        assertEquals(List.of("John Doe", "Jane Smith"), afterCreate);
+        assertEquals(List.of("Jane Smith"), afterDelete);
+        assertTrue(versionAfterCreate > versionBefore);
+        assertTrue(employeeStore.version() > versionAfterCreate);
+    }
+
+    @Test
+    void get_ServesEveryFormatAndEncodingOfTheCurrentVersion() throws IOException {
+        // Given
+        mockEmployeeService.create(createInput("John Doe"));
+        names(RosterFormat.SMILE, true);
+
+        // When
+        mockEmployeeService.create(createInput("Jane Smith"));
+
+        // Then
+        final var expected = List.of("John Doe", "Jane Smith");
+        assertEquals(expected, names(RosterFormat.JSON, false));
+        assertEquals(expected, names(RosterFormat.JSON, true));
+        assertEquals(expected, names(RosterFormat.SMILE, false));
+        assertEquals(expected, names(RosterFormat.SMILE, true));
+    }
+
+    @Test
+    void get_BodyLargerThanLimit_IsNotCached() {
+        // Given
+        mockEmployeeService.create(createInput("John Doe"));
+        final var smallCache = new RosterResponseCache(employeeStore, objectMapper, 16);
+
+        // When & Then
+        assertTrue(smallCache.get(RosterFormat.JSON, false).isEmpty());
+    }
+
+    private List<String> names(RosterFormat format, boolean gzip) throws IOException {
+        final var body = rosterResponseCache.get(format, gzip).orElseThrow();
+        final var bytes = new byte[body.remaining()];
+        body.get(bytes);
+        InputStream in = new ByteArrayInputStream(bytes);
+        if (gzip) {
+            in = new GZIPInputStream(in);
+        }
+        final var reader = format == RosterFormat.SMILE ? objectMapper.copyWith(new SmileFactory()) : objectMapper;
+        final var names = new ArrayList<String>();
+        reader.readTree(in).get("data").forEach(employee -> names.add(employee.get("employee_name").asText()));
+        return names;
+    }
+
+    private static CreateMockEmployeeInput createInput(String name) {
+        final var input = new CreateMockEmployeeInput();
+        input.setName(name);
+        input.setSalary(50000);
+        input.setAge(30);
+        input.setTitle("Developer");
+        return input;
+    }
+
+    private static DeleteMockEmployeeInput deleteInput(String name) {
+        final var input = new DeleteMockEmployeeInput();
+        input.setName(name);
+        return input;
+    }
+}